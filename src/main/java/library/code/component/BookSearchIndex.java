@@ -0,0 +1,682 @@
+package library.code.component;
+
+import library.code.dto.bookDTO.BookGenreIndexDTO;
+import library.code.dto.bookDTO.BookIndexDTO;
+import library.code.dto.specificationDTO.BookParamDTO;
+import library.code.dto.specificationDTO.GenreMatch;
+import library.code.models.Book;
+import library.code.models.Genre;
+import library.code.repositories.BookRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Hibernate;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BookSearchIndex {
+    private static final int GRAM_SIZE = 3;
+    private static final char TITLE = 't';
+    private static final char AUTHOR_FIRST_NAME = 'f';
+    private static final char AUTHOR_LAST_NAME = 'l';
+    private static final char PUBLISHER = 'p';
+    private static final char DIRECTION = 'd';
+    private static final Pattern TOKEN_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private final BookRepository bookRepository;
+    private final SearchProperties searchProperties;
+    private final Object writeLock = new Object();
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    private final Queue<Consumer<Segment>> pendingDuringRebuild = new ConcurrentLinkedQueue<>();
+    private volatile Segment segment = new Segment();
+    private volatile boolean ready;
+    private boolean rebuilding;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    @Scheduled(fixedDelayString = "${search.index.rebuild-delay:1800000}",
+            initialDelayString = "${search.index.rebuild-delay:1800000}")
+    public void rebuild() {
+        if (!searchProperties.isEnabled() || !rebuildLock.tryLock()) {
+            return;
+        }
+        try {
+            synchronized (writeLock) {
+                rebuilding = true;
+            }
+
+            long startedAt = System.currentTimeMillis();
+            Segment fresh = new Segment();
+            int batchSize = searchProperties.getBatchSize();
+            long lastId = 0L;
+            int indexed = 0;
+            List<BookIndexDTO> batch;
+            do {
+                batch = bookRepository.findIndexEntries(lastId, PageRequest.of(0, batchSize));
+                batch.forEach(fresh::add);
+                indexed += batch.size();
+                if (!batch.isEmpty()) {
+                    lastId = batch.get(batch.size() - 1).getId();
+                    fresh.addGenres(bookRepository.findGenreEntries(
+                            batch.stream().map(BookIndexDTO::getId).toList()));
+                }
+            } while (batch.size() == batchSize);
+
+            synchronized (writeLock) {
+                Consumer<Segment> change;
+                while ((change = pendingDuringRebuild.poll()) != null) {
+                    change.accept(fresh);
+                }
+                fresh.publish();
+                segment = fresh;
+                rebuilding = false;
+            }
+            ready = true;
+            log.info("Book search index rebuilt with {} books in {} ms", indexed,
+                    System.currentTimeMillis() - startedAt);
+        } catch (RuntimeException ex) {
+            synchronized (writeLock) {
+                rebuilding = false;
+                pendingDuringRebuild.clear();
+            }
+            log.error("Failed to rebuild book search index: {}", ex.getMessage(), ex);
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    public void add(Book book) {
+        add(new BookIndexDTO(book.getId(), book.getBookTitle(),
+                book.getAuthor() != null ? book.getAuthor().getFirstName() : null,
+                book.getAuthor() != null ? book.getAuthor().getLastName() : null,
+                book.getPublisher() != null ? book.getPublisher().getTitle() : null,
+                book.getDirectionOfLiterature()));
+    }
+
+    public void add(BookIndexDTO entry) {
+        if (entry.getId() == null) {
+            return;
+        }
+        BookIndexDTO previous;
+        synchronized (writeLock) {
+            previous = segment.indexedEntries.get(entry.getId());
+            apply(current -> current.add(entry));
+        }
+        indexRollback().rememberEntry(entry.getId(), previous);
+    }
+
+    public void remove(Long bookId) {
+        BookIndexDTO previousEntry;
+        Map<Long, String> previousGenres;
+        synchronized (writeLock) {
+            previousEntry = segment.indexedEntries.get(bookId);
+            previousGenres = segment.bookGenres.getOrDefault(bookId, Map.of());
+            apply(current -> current.remove(bookId));
+        }
+        var rollback = indexRollback();
+        rollback.rememberEntry(bookId, previousEntry);
+        rollback.rememberGenres(bookId, previousGenres);
+    }
+
+    public void indexGenres(Book book) {
+        if (book.getGenres() == null || !Hibernate.isInitialized(book.getGenres())) {
+            return;
+        }
+        var genres = book.getGenres().stream()
+                .collect(Collectors.toMap(Genre::getId, Genre::getTypeOfGenre, (first, second) -> first));
+        var previous = assignGenres(book.getId(), genres);
+        indexRollback().rememberGenres(book.getId(), previous);
+    }
+
+    public Map<Long, String> assignGenres(Long bookId, Map<Long, String> genres) {
+        synchronized (writeLock) {
+            var previous = segment.bookGenres.getOrDefault(bookId, Map.of());
+            apply(current -> current.assignGenres(bookId, genres));
+            return previous;
+        }
+    }
+
+    public void renameGenre(Long genreId, String typeOfGenre) {
+        apply(current -> current.renameGenre(genreId, typeOfGenre));
+    }
+
+    public void removeGenre(Long genreId) {
+        apply(current -> current.removeGenre(genreId));
+    }
+
+    private void apply(Consumer<Segment> change) {
+        synchronized (writeLock) {
+            change.accept(segment);
+            if (rebuilding) {
+                pendingDuringRebuild.add(change);
+            }
+        }
+    }
+
+    private IndexRollback indexRollback() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return new IndexRollback();
+        }
+        return TransactionSynchronizationManager.getSynchronizations().stream()
+                .filter(IndexRollback.class::isInstance)
+                .map(IndexRollback.class::cast)
+                .findFirst()
+                .orElseGet(() -> {
+                    var rollback = new IndexRollback();
+                    TransactionSynchronizationManager.registerSynchronization(rollback);
+                    return rollback;
+                });
+    }
+
+    public void reindexAuthor(Long authorId) {
+        bookRepository.findIndexEntriesByAuthorId(authorId).forEach(this::add);
+    }
+
+    public void reindexPublisher(Long publisherId) {
+        bookRepository.findIndexEntriesByPublisherId(publisherId).forEach(this::add);
+    }
+
+    public Optional<Set<Long>> findCandidates(BookParamDTO params) {
+        if (!ready) {
+            return Optional.empty();
+        }
+        var current = segment;
+        if (!current.complete) {
+            return Optional.empty();
+        }
+        Set<Long> candidates = null;
+        candidates = narrowByGenres(candidates, current, params.getGenreTypes(), params.getGenreMatch());
+        candidates = narrow(candidates, current, TITLE, params.getBookCont());
+        candidates = narrow(candidates, current, AUTHOR_FIRST_NAME, params.getAuthorFirstNameCont());
+        candidates = narrow(candidates, current, AUTHOR_LAST_NAME, params.getAuthorSurnameCont());
+        candidates = narrow(candidates, current, PUBLISHER, params.getPublisherTitleCont());
+        candidates = narrow(candidates, current, DIRECTION, params.getDirectionOfLiterature());
+        return Optional.ofNullable(candidates);
+    }
+
+    private Set<Long> narrowByGenres(Set<Long> candidates, Segment current, Set<String> genreTypes,
+                                     GenreMatch genreMatch) {
+        if (genreTypes == null || genreTypes.isEmpty()) {
+            return candidates;
+        }
+
+        BitSet books = current.genreBitmap(genreTypes, genreMatch);
+        if (candidates == null) {
+            return current.bookIds(books);
+        }
+        candidates.removeIf(id -> !current.contains(books, id));
+        return candidates;
+    }
+
+    private Set<Long> narrow(Set<Long> candidates, Segment current, char field, String term) {
+        if (term == null || candidates != null && candidates.isEmpty()) {
+            return candidates;
+        }
+        String normalized = normalize(term);
+        if (normalized.length() < GRAM_SIZE) {
+            return candidates;
+        }
+
+        Set<Long> matches = current.lookup(field, normalized);
+        if (candidates == null) {
+            return matches;
+        }
+        candidates.retainAll(matches);
+        return candidates;
+    }
+
+    public Optional<List<Long>> findFuzzy(BookParamDTO params, int limit) {
+        if (!ready || isBlank(params.getBookCont()) && isBlank(params.getAuthorSurnameCont())) {
+            return Optional.empty();
+        }
+        var current = segment;
+        if (!current.complete) {
+            return Optional.empty();
+        }
+        Map<Long, Double> scores = null;
+        scores = fuzzyScores(scores, current, TITLE, params.getBookCont());
+        scores = fuzzyScores(scores, current, AUTHOR_LAST_NAME, params.getAuthorSurnameCont());
+
+        return Optional.of(scores.entrySet().stream()
+                .sorted(Map.Entry.<Long, Double>comparingByValue().reversed()
+                        .thenComparing(Map.Entry.comparingByKey()))
+                .limit(limit)
+                .map(Map.Entry::getKey)
+                .toList());
+    }
+
+    private Map<Long, Double> fuzzyScores(Map<Long, Double> scores, Segment current, char field, String text) {
+        if (isBlank(text)) {
+            return scores;
+        }
+        double threshold = searchProperties.getFuzzyThreshold();
+        Map<Long, Double> fieldScores = new HashMap<>();
+        for (String word : tokenize(text)) {
+            current.fuzzyLookup(field, word, threshold)
+                    .forEach((id, score) -> fieldScores.merge(id, score, Double::sum));
+        }
+
+        if (scores == null) {
+            return fieldScores;
+        }
+        scores.keySet().retainAll(fieldScores.keySet());
+        scores.replaceAll((id, score) -> score + fieldScores.get(id));
+        return scores;
+    }
+
+    static String normalize(String text) {
+        return text.toLowerCase(Locale.ROOT);
+    }
+
+    static List<String> tokenize(String text) {
+        return Arrays.stream(TOKEN_SEPARATOR.split(normalize(text)))
+                .filter(word -> !word.isEmpty())
+                .toList();
+    }
+
+    private static Set<String> termGrams(String word) {
+        String padded = " " + word + " ";
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + GRAM_SIZE <= padded.length(); i++) {
+            grams.add(padded.substring(i, i + GRAM_SIZE));
+        }
+        return grams;
+    }
+
+    private static boolean isBlank(String text) {
+        return text == null || text.isBlank();
+    }
+
+    private final class IndexRollback implements TransactionSynchronization {
+        private final Map<Long, BookIndexDTO> originalEntries = new HashMap<>();
+        private final Map<Long, Map<Long, String>> originalGenres = new HashMap<>();
+
+        private void rememberEntry(Long bookId, BookIndexDTO entry) {
+            if (!originalEntries.containsKey(bookId)) {
+                originalEntries.put(bookId, entry);
+            }
+        }
+
+        private void rememberGenres(Long bookId, Map<Long, String> genres) {
+            originalGenres.putIfAbsent(bookId, genres);
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            if (status != STATUS_ROLLED_BACK) {
+                return;
+            }
+            originalEntries.forEach((bookId, entry) -> apply(current -> {
+                if (entry != null) {
+                    current.add(entry);
+                } else {
+                    current.removeEntry(bookId);
+                }
+            }));
+            originalGenres.forEach((bookId, genres) -> apply(current -> current.assignGenres(bookId, genres)));
+        }
+    }
+
+    private static final class Segment {
+        private static final int MAX_ORDINALS = Integer.MAX_VALUE - 8;
+        private static final int INITIAL_ORDINALS = 1024;
+
+        private final Map<String, Postings> postings = new ConcurrentHashMap<>();
+        private final Map<String, Postings> terms = new ConcurrentHashMap<>();
+        private final Map<String, Set<String>> termGrams = new ConcurrentHashMap<>();
+        private final Map<Long, BitSet> genreBooks = new ConcurrentHashMap<>();
+        private final Map<String, Long> genreIds = new ConcurrentHashMap<>();
+        private final Map<Long, Map<Long, String>> bookGenres = new ConcurrentHashMap<>();
+        private final Map<Long, BookIndexDTO> indexedEntries = new ConcurrentHashMap<>();
+        private final Map<Long, Integer> ordinals = new ConcurrentHashMap<>();
+        private volatile long[] ordinalBookIds = new long[INITIAL_ORDINALS];
+        private int nextOrdinal;
+        private volatile boolean complete = true;
+        private boolean published;
+
+        private void publish() {
+            postings.replaceAll((gram, books) -> books.trimmed());
+            terms.replaceAll((term, books) -> books.trimmed());
+            published = true;
+        }
+
+        private void add(BookIndexDTO entry) {
+            if (entry.getId() == null) {
+                return;
+            }
+            removeEntry(entry.getId());
+            int ordinal = ordinal(entry.getId());
+            if (ordinal < 0) {
+                return;
+            }
+            indexedEntries.put(entry.getId(), entry);
+            addField(TITLE, entry.getBookTitle(), ordinal);
+            addField(AUTHOR_FIRST_NAME, entry.getAuthorFirstName(), ordinal);
+            addField(AUTHOR_LAST_NAME, entry.getAuthorLastName(), ordinal);
+            addField(PUBLISHER, entry.getPublisherTitle(), ordinal);
+            addField(DIRECTION, entry.getDirectionOfLiterature(), ordinal);
+            addTerms(TITLE, entry.getBookTitle(), ordinal);
+            addTerms(AUTHOR_LAST_NAME, entry.getAuthorLastName(), ordinal);
+        }
+
+        private void remove(Long bookId) {
+            removeEntry(bookId);
+            assignGenres(bookId, Map.of());
+        }
+
+        private void removeEntry(Long bookId) {
+            var entry = indexedEntries.remove(bookId);
+            if (entry == null) {
+                return;
+            }
+            int ordinal = ordinals.get(bookId);
+            removeField(TITLE, entry.getBookTitle(), ordinal);
+            removeField(AUTHOR_FIRST_NAME, entry.getAuthorFirstName(), ordinal);
+            removeField(AUTHOR_LAST_NAME, entry.getAuthorLastName(), ordinal);
+            removeField(PUBLISHER, entry.getPublisherTitle(), ordinal);
+            removeField(DIRECTION, entry.getDirectionOfLiterature(), ordinal);
+            removeTerms(TITLE, entry.getBookTitle(), ordinal);
+            removeTerms(AUTHOR_LAST_NAME, entry.getAuthorLastName(), ordinal);
+        }
+
+        private void addGenres(List<BookGenreIndexDTO> entries) {
+            Map<Long, Map<Long, String>> genresByBook = new HashMap<>();
+            for (var entry : entries) {
+                genresByBook.computeIfAbsent(entry.getBookId(), key -> new HashMap<>())
+                        .put(entry.getGenreId(), entry.getTypeOfGenre());
+            }
+            genresByBook.forEach(this::assignGenres);
+        }
+
+        private Map<Long, String> assignGenres(Long bookId, Map<Long, String> genres) {
+            var previous = bookGenres.getOrDefault(bookId, Map.of());
+            if (genres.isEmpty() && previous.isEmpty()) {
+                return previous;
+            }
+            int bit = ordinal(bookId);
+            if (bit < 0) {
+                return previous;
+            }
+            for (Long genreId : previous.keySet()) {
+                if (!genres.containsKey(genreId)) {
+                    updateBit(genreId, bit, false);
+                }
+            }
+            genres.forEach((genreId, typeOfGenre) -> {
+                genreIds.put(typeOfGenre, genreId);
+                if (!previous.containsKey(genreId)) {
+                    updateBit(genreId, bit, true);
+                }
+            });
+
+            if (genres.isEmpty()) {
+                bookGenres.remove(bookId);
+            } else {
+                bookGenres.put(bookId, Map.copyOf(genres));
+            }
+            return previous;
+        }
+
+        private void renameGenre(Long genreId, String typeOfGenre) {
+            genreIds.values().removeIf(genreId::equals);
+            genreIds.put(typeOfGenre, genreId);
+        }
+
+        private void removeGenre(Long genreId) {
+            genreIds.values().removeIf(genreId::equals);
+            genreBooks.remove(genreId);
+        }
+
+        private void updateBit(Long genreId, int bit, boolean value) {
+            genreBooks.compute(genreId, (key, books) -> {
+                BitSet updated = books == null ? new BitSet() : published ? (BitSet) books.clone() : books;
+                updated.set(bit, value);
+                return updated;
+            });
+        }
+
+        private int ordinal(Long bookId) {
+            Integer existing = ordinals.get(bookId);
+            if (existing != null) {
+                return existing;
+            }
+            if (nextOrdinal == MAX_ORDINALS) {
+                if (complete) {
+                    log.warn("Search index ran out of book ordinals, filters fall back to the database");
+                }
+                complete = false;
+                return -1;
+            }
+            int ordinal = nextOrdinal++;
+            long[] bookIds = ordinalBookIds;
+            if (ordinal == bookIds.length) {
+                bookIds = Arrays.copyOf(bookIds, (int) Math.min(MAX_ORDINALS, bookIds.length * 2L));
+            }
+            bookIds[ordinal] = bookId;
+            ordinalBookIds = bookIds;
+            ordinals.put(bookId, ordinal);
+            return ordinal;
+        }
+
+        private boolean contains(BitSet bits, Long bookId) {
+            Integer ordinal = ordinals.get(bookId);
+            return ordinal != null && bits.get(ordinal);
+        }
+
+        private Set<Long> bookIds(BitSet bits) {
+            long[] bookIds = ordinalBookIds;
+            return bits.stream().mapToObj(ordinal -> bookIds[ordinal]).collect(Collectors.toCollection(HashSet::new));
+        }
+
+        private BitSet genreBitmap(Set<String> genreTypes, GenreMatch genreMatch) {
+            BitSet result = null;
+            for (String genreType : genreTypes) {
+                Long genreId = genreIds.get(genreType);
+                BitSet books = genreId != null ? genreBooks.get(genreId) : null;
+                if (books == null) {
+                    if (genreMatch == GenreMatch.ALL) {
+                        return new BitSet();
+                    }
+                    continue;
+                }
+
+                if (result == null) {
+                    result = (BitSet) books.clone();
+                } else if (genreMatch == GenreMatch.ALL) {
+                    result.and(books);
+                } else {
+                    result.or(books);
+                }
+            }
+            return result != null ? result : new BitSet();
+        }
+
+        private void addTerms(char field, String value, int ordinal) {
+            if (value == null) {
+                return;
+            }
+            for (String word : tokenize(value)) {
+                String term = field + word;
+                var books = terms.get(term);
+                if (books == null) {
+                    books = Postings.EMPTY;
+                    for (String gram : termGrams(word)) {
+                        termGrams.computeIfAbsent(field + gram, key -> ConcurrentHashMap.newKeySet()).add(word);
+                    }
+                }
+                terms.put(term, books.with(ordinal));
+            }
+        }
+
+        private void removeTerms(char field, String value, int ordinal) {
+            if (value == null) {
+                return;
+            }
+            for (String word : tokenize(value)) {
+                String term = field + word;
+                var books = terms.get(term);
+                if (books == null) {
+                    continue;
+                }
+                var remaining = books.without(ordinal);
+                if (!remaining.isEmpty()) {
+                    terms.put(term, remaining);
+                    continue;
+                }
+                terms.remove(term);
+                for (String gram : termGrams(word)) {
+                    var words = termGrams.get(field + gram);
+                    if (words != null) {
+                        words.remove(word);
+                        if (words.isEmpty()) {
+                            termGrams.remove(field + gram);
+                        }
+                    }
+                }
+            }
+        }
+
+        private Map<Long, Double> fuzzyLookup(char field, String word, double threshold) {
+            Set<String> queryGrams = termGrams(word);
+            Map<String, Integer> shared = new HashMap<>();
+            for (String gram : queryGrams) {
+                var matchingTerms = termGrams.get(field + gram);
+                if (matchingTerms != null) {
+                    matchingTerms.forEach(term -> shared.merge(term, 1, Integer::sum));
+                }
+            }
+
+            long[] bookIds = ordinalBookIds;
+            Map<Long, Double> scores = new HashMap<>();
+            shared.forEach((term, common) -> {
+                double similarity = (double) common / (queryGrams.size() + termGrams(term).size() - common);
+                if (similarity >= threshold) {
+                    terms.getOrDefault(field + term, Postings.EMPTY).stream()
+                            .forEach(ordinal -> scores.merge(bookIds[ordinal], similarity, Math::max));
+                }
+            });
+            return scores;
+        }
+
+        private void addField(char field, String value, int ordinal) {
+            if (value == null) {
+                return;
+            }
+            String normalized = normalize(value);
+            for (int i = 0; i + GRAM_SIZE <= normalized.length(); i++) {
+                postings.compute(field + normalized.substring(i, i + GRAM_SIZE),
+                        (gram, books) -> (books == null ? Postings.EMPTY : books).with(ordinal));
+            }
+        }
+
+        private void removeField(char field, String value, int ordinal) {
+            if (value == null) {
+                return;
+            }
+            String normalized = normalize(value);
+            for (int i = 0; i + GRAM_SIZE <= normalized.length(); i++) {
+                postings.computeIfPresent(field + normalized.substring(i, i + GRAM_SIZE), (gram, books) -> {
+                    var remaining = books.without(ordinal);
+                    return remaining.isEmpty() ? null : remaining;
+                });
+            }
+        }
+
+        private Set<Long> lookup(char field, String term) {
+            List<Postings> lists = new ArrayList<>();
+            for (int i = 0; i + GRAM_SIZE <= term.length(); i++) {
+                var posting = postings.get(field + term.substring(i, i + GRAM_SIZE));
+                if (posting == null) {
+                    return new HashSet<>();
+                }
+                lists.add(posting);
+            }
+            lists.sort(Comparator.comparingInt(Postings::size));
+
+            long[] bookIds = ordinalBookIds;
+            var others = lists.subList(1, lists.size());
+            return lists.get(0).stream()
+                    .filter(ordinal -> others.stream().allMatch(books -> books.contains(ordinal)))
+                    .mapToObj(ordinal -> bookIds[ordinal])
+                    .collect(Collectors.toCollection(HashSet::new));
+        }
+    }
+
+    private record Postings(int[] ordinals, int size) {
+        private static final Postings EMPTY = new Postings(new int[0], 0);
+
+        private boolean isEmpty() {
+            return size == 0;
+        }
+
+        private boolean contains(int ordinal) {
+            return Arrays.binarySearch(ordinals, 0, size, ordinal) >= 0;
+        }
+
+        private IntStream stream() {
+            return Arrays.stream(ordinals, 0, size);
+        }
+
+        private Postings with(int ordinal) {
+            int index = Arrays.binarySearch(ordinals, 0, size, ordinal);
+            if (index >= 0) {
+                return this;
+            }
+            int insertAt = -index - 1;
+            if (insertAt == size && size < ordinals.length) {
+                ordinals[size] = ordinal;
+                return new Postings(ordinals, size + 1);
+            }
+            int[] updated = new int[size + (size >> 1) + 1];
+            System.arraycopy(ordinals, 0, updated, 0, insertAt);
+            updated[insertAt] = ordinal;
+            System.arraycopy(ordinals, insertAt, updated, insertAt + 1, size - insertAt);
+            return new Postings(updated, size + 1);
+        }
+
+        private Postings without(int ordinal) {
+            int index = Arrays.binarySearch(ordinals, 0, size, ordinal);
+            if (index < 0) {
+                return this;
+            }
+            int[] updated = new int[size - 1];
+            System.arraycopy(ordinals, 0, updated, 0, index);
+            System.arraycopy(ordinals, index + 1, updated, index, size - index - 1);
+            return new Postings(updated, size - 1);
+        }
+
+        private Postings trimmed() {
+            return size == ordinals.length ? this : new Postings(Arrays.copyOf(ordinals, size), size);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package library.code.component;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import library.code.models.Book;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class BookSearchIndexListener {
+    private final ObjectProvider<BookSearchIndex> bookSearchIndex;
+
+    @PostPersist
+    @PostUpdate
+    public void onSave(Book book) {
+        bookSearchIndex.ifAvailable(index -> {
+            index.add(book);
+            index.indexGenres(book);
+        });
+    }
+
+    @PostRemove
+    public void onRemove(Book book) {
+        bookSearchIndex.ifAvailable(index -> index.remove(book.getId()));
+    }
+}
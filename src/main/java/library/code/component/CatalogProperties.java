@@ -0,0 +1,17 @@
+package library.code.component;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "catalog")
+public class CatalogProperties {
+    private boolean createMissingGenres = false;
+    private int importBatchSize = 1000;
+    private int importMaxReportedErrors = 1000;
+    private int exportFetchSize = 1000;
+}
@@ -0,0 +1,17 @@
+package library.code.component;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "concurrency")
+public class ConcurrencyProperties {
+    private int maxConcurrentRequests = 200;
+    private Duration acquireTimeout = Duration.ofSeconds(2);
+}
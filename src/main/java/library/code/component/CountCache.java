@@ -0,0 +1,47 @@
+package library.code.component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CountCache {
+    private final PaginationProperties paginationProperties;
+    private final Map<CountKey, CachedCount> counts = new ConcurrentHashMap<>();
+
+    public long get(Class<?> type, Object filter, LongSupplier loader) {
+        var key = new CountKey(type, filter);
+        long now = System.nanoTime();
+        var cached = counts.get(key);
+        if (cached != null && cached.expiresAt() - now > 0) {
+            return cached.count();
+        }
+
+        long count = loader.getAsLong();
+        if (counts.size() >= paginationProperties.getCountCacheMaxEntries()) {
+            counts.values().removeIf(entry -> entry.expiresAt() - now <= 0);
+            if (counts.size() >= paginationProperties.getCountCacheMaxEntries()) {
+                log.debug("Count cache is full, clearing {} entries", counts.size());
+                counts.clear();
+            }
+        }
+        counts.put(key, new CachedCount(count, now + paginationProperties.getCountCacheTtl().toNanos()));
+        return count;
+    }
+
+    public void evict(Class<?> type) {
+        counts.keySet().removeIf(key -> key.type().equals(type));
+    }
+
+    private record CountKey(Class<?> type, Object filter) {
+    }
+
+    private record CachedCount(long count, long expiresAt) {
+    }
+}
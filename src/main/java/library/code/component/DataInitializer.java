@@ -11,10 +11,12 @@ import library.code.repositories.RoleRepository;
 import library.code.repositories.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.DependsOn;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
 
 @Component
+@DependsOn("sequenceIdAllocator")
 @RequiredArgsConstructor
 @Slf4j
 public class DataInitializer {
@@ -23,33 +25,32 @@ public class DataInitializer {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final NotificationStatusRepository notificationStatusRepository;
+    private final LookupRegistry lookupRegistry;
 
     @PostConstruct
     public void init() {
         for (RoleName roleName : RoleName.values()) {
-            roleRepository.findByRoleName(roleName).orElseGet(() -> {
-                Role role = new Role();
-                role.setRoleName(roleName);
+            var role = roleRepository.findByRoleName(roleName).orElseGet(() -> {
+                Role newRole = new Role();
+                newRole.setRoleName(roleName);
                 log.info("Creating role: {}", roleName);
-                return roleRepository.save(role);
+                return roleRepository.save(newRole);
             });
+            lookupRegistry.registerRole(role);
         }
 
         for (NotificationStatusName statusName : NotificationStatusName.values()) {
-            notificationStatusRepository.findByStatusName(statusName)
+            var status = notificationStatusRepository.findByStatusName(statusName)
                     .orElseGet(() -> {
-                        NotificationStatus status = new NotificationStatus();
-                        status.setStatusName(statusName);
+                        NotificationStatus newStatus = new NotificationStatus();
+                        newStatus.setStatusName(statusName);
                         log.info("Creating notification_status: {}", statusName);
-                        return notificationStatusRepository.save(status);
+                        return notificationStatusRepository.save(newStatus);
                     });
+            lookupRegistry.registerNotificationStatus(status);
         }
 
-        var roleAdmin = roleRepository.findByRoleName(RoleName.ADMIN)
-                .orElseThrow(() -> {
-                    log.error("Role ADMIN not found");
-                    return new RuntimeException("Role ADMIN not found");
-                });
+        var roleAdmin = lookupRegistry.getRole(RoleName.ADMIN);
         if (!userRepository.existsByEmail("admin@admin.library")) {
             log.info("Creating admin user...");
             User user = new User();
@@ -0,0 +1,15 @@
+package library.code.component;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "cache.jwt")
+public class JwtCacheProperties {
+    private boolean enabled = true;
+    private int maxEntries = 10000;
+}
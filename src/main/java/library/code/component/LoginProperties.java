@@ -0,0 +1,39 @@
+package library.code.component;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "login")
+public class LoginProperties {
+    private boolean rateLimitEnabled = true;
+    private int maxTrackedKeys = 100000;
+    private Limit accountLimit = new Limit(5, Duration.ofMinutes(1));
+    private Limit ipLimit = new Limit(30, Duration.ofMinutes(1));
+    private LoginExecutor executor = new LoginExecutor();
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Limit {
+        private int capacity;
+        private Duration refillPeriod;
+    }
+
+    @Getter
+    @Setter
+    public static class LoginExecutor {
+        private int poolSize = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        private int queueCapacity = 100;
+        private Duration timeout = Duration.ofSeconds(10);
+    }
+}
@@ -0,0 +1,99 @@
+package library.code.component;
+
+import library.code.exception.TooManyLoginAttemptsException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LoginRateLimiter {
+    private final LoginProperties loginProperties;
+    private final Map<String, TokenBucket> accountBuckets = new ConcurrentHashMap<>();
+    private final Map<String, TokenBucket> ipBuckets = new ConcurrentHashMap<>();
+
+    public void acquire(String account, String ip) {
+        if (!loginProperties.isRateLimitEnabled()) {
+            return;
+        }
+
+        long now = System.nanoTime();
+        long retryAfter = tryConsume(ipBuckets, ip != null ? ip : "", loginProperties.getIpLimit(), now);
+        if (retryAfter == 0) {
+            String accountKey = account != null ? account.trim().toLowerCase(Locale.ROOT) : "";
+            retryAfter = tryConsume(accountBuckets, accountKey, loginProperties.getAccountLimit(), now);
+        }
+        if (retryAfter > 0) {
+            log.warn("Throttling login attempt for account: {} from IP: {}, retry after {}s", account, ip, retryAfter);
+            throw new TooManyLoginAttemptsException("Too many login attempts, try again later", retryAfter);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${login.purge-interval:60000}", initialDelayString = "${login.purge-interval:60000}")
+    public void purgeIdleBuckets() {
+        long now = System.nanoTime();
+        int removed = purgeIdle(accountBuckets, loginProperties.getAccountLimit(), now)
+                + purgeIdle(ipBuckets, loginProperties.getIpLimit(), now);
+        if (removed > 0) {
+            log.debug("Purged {} idle login rate limit buckets", removed);
+        }
+    }
+
+    private long tryConsume(Map<String, TokenBucket> buckets, String key, LoginProperties.Limit limit, long now) {
+        var bucket = buckets.get(key);
+        if (bucket == null) {
+            if (buckets.size() >= loginProperties.getMaxTrackedKeys()) {
+                log.warn("Login rate limiter already tracks {} keys, rejecting new key until idle buckets are purged",
+                        buckets.size());
+                return Math.max(1, limit.getRefillPeriod().toSeconds());
+            }
+            bucket = buckets.computeIfAbsent(key, ignored -> new TokenBucket(limit.getCapacity(), now));
+        }
+        return bucket.tryConsume(limit, now);
+    }
+
+    private int purgeIdle(Map<String, TokenBucket> buckets, LoginProperties.Limit limit, long now) {
+        int before = buckets.size();
+        buckets.values().removeIf(bucket -> bucket.isFull(limit, now));
+        return before - buckets.size();
+    }
+
+    private static final class TokenBucket {
+        private double tokens;
+        private long refilledAt;
+
+        private TokenBucket(int capacity, long now) {
+            this.tokens = capacity;
+            this.refilledAt = now;
+        }
+
+        private synchronized long tryConsume(LoginProperties.Limit limit, long now) {
+            refill(limit, now);
+            if (tokens >= 1) {
+                tokens -= 1;
+                return 0;
+            }
+            double nanosPerToken = (double) limit.getRefillPeriod().toNanos() / limit.getCapacity();
+            return Math.max(1, (long) Math.ceil((1 - tokens) * nanosPerToken / 1_000_000_000));
+        }
+
+        private synchronized boolean isFull(LoginProperties.Limit limit, long now) {
+            refill(limit, now);
+            return tokens >= limit.getCapacity();
+        }
+
+        private void refill(LoginProperties.Limit limit, long now) {
+            if (now > refilledAt) {
+                double tokensPerNano = (double) limit.getCapacity() / limit.getRefillPeriod().toNanos();
+                tokens = Math.min(limit.getCapacity(), tokens + (now - refilledAt) * tokensPerNano);
+                refilledAt = now;
+            }
+        }
+    }
+}
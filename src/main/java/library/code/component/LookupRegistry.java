@@ -0,0 +1,49 @@
+package library.code.component;
+
+import library.code.exception.ResourceNotFoundException;
+import library.code.models.NotificationStatus;
+import library.code.models.NotificationStatusName;
+import library.code.models.Role;
+import library.code.models.RoleName;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+@Slf4j
+@Component
+public class LookupRegistry {
+    private final Map<RoleName, Role> roles = new EnumMap<>(RoleName.class);
+    private final Map<NotificationStatusName, NotificationStatus> notificationStatuses =
+            new EnumMap<>(NotificationStatusName.class);
+
+    public synchronized void registerRole(Role role) {
+        roles.put(role.getRoleName(), role);
+        log.debug("Registered role {} with ID: {}", role.getRoleName(), role.getId());
+    }
+
+    public synchronized void registerNotificationStatus(NotificationStatus status) {
+        notificationStatuses.put(status.getStatusName(), status);
+        log.debug("Registered notification status {} with ID: {}", status.getStatusName(), status.getId());
+    }
+
+    public Role getRole(RoleName roleName) {
+        var role = roles.get(roleName);
+        if (role == null) {
+            log.error("Role {} not found", roleName);
+            throw new ResourceNotFoundException("Role '" + roleName.name().toLowerCase() + "' not found");
+        }
+        return role;
+    }
+
+    public NotificationStatus getNotificationStatus(NotificationStatusName statusName) {
+        var status = notificationStatuses.get(statusName);
+        if (status == null) {
+            log.error("Notification status {} not found", statusName);
+            throw new ResourceNotFoundException("notification status '"
+                    + statusName.name().toLowerCase() + "' not found");
+        }
+        return status;
+    }
+}
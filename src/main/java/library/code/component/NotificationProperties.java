@@ -0,0 +1,58 @@
+package library.code.component;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Component
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "notifications")
+public class NotificationProperties {
+    private int batchSize = 500;
+    private Reminders reminders = new Reminders();
+    private Outbox outbox = new Outbox();
+    private Smtp smtp = new Smtp();
+    private EmailExecutor executor = new EmailExecutor();
+
+    @Getter
+    @Setter
+    public static class Reminders {
+        private List<Integer> offsets = new ArrayList<>(List.of(-3, 0, 1, 7));
+        private int catchUpDays = 7;
+    }
+
+    @Getter
+    @Setter
+    public static class Outbox {
+        private int batchSize = 200;
+        private int parallelism = 4;
+        private int maxAttempts = 5;
+        private Duration initialBackoff = Duration.ofMinutes(1);
+        private Duration maxBackoff = Duration.ofHours(6);
+    }
+
+    @Getter
+    @Setter
+    public static class Smtp {
+        private int poolSize = 4;
+        private int maxMessagesPerConnection = 100;
+        private Duration minMessageInterval = Duration.ofMillis(50);
+        private Duration borrowTimeout = Duration.ofSeconds(30);
+    }
+
+    @Getter
+    @Setter
+    public static class EmailExecutor {
+        private boolean virtualThreads = false;
+        private int concurrencyLimit = 16;
+        private int corePoolSize = 2;
+        private int maxPoolSize = 5;
+        private int queueCapacity = 10;
+    }
+}
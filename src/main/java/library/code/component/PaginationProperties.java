@@ -0,0 +1,19 @@
+package library.code.component;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "pagination")
+public class PaginationProperties {
+    private int defaultPageSize = 10;
+    private int maxPageSize = 100;
+    private Duration countCacheTtl = Duration.ofSeconds(30);
+    private int countCacheMaxEntries = 1000;
+}
@@ -0,0 +1,212 @@
+package library.code.component;
+
+import library.code.dto.cacheDTO.CacheStatsDTO;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReferenceCache {
+    private final ReferenceCacheProperties referenceCacheProperties;
+    private final Map<String, Region> regions = new ConcurrentHashMap<>();
+
+    public <V> Optional<V> get(Class<?> type, Object key, Supplier<Optional<V>> loader) {
+        if (!referenceCacheProperties.isEnabled() || key == null) {
+            return loader.get();
+        }
+
+        String regionName = type.getSimpleName();
+        var region = regions.computeIfAbsent(regionName, name -> new Region());
+        long now = System.nanoTime();
+        synchronized (region) {
+            V cached = valueOf(region.entries.get(key), now);
+            if (cached != null) {
+                region.hits.increment();
+                return Optional.of(cached);
+            }
+        }
+
+        region.misses.increment();
+        var loaded = loader.get();
+        loaded.ifPresent(value -> {
+            synchronized (region) {
+                region.entries.put(key, new CachedValue(value, now + referenceCacheProperties.getTtl().toNanos()));
+            }
+            evictOnRollback(regionName, key);
+        });
+        return loaded;
+    }
+
+    public <K, V> Map<K, V> getAllByNaturalId(Class<?> type, String attribute, Collection<K> keys,
+                                              Function<Set<K>, Map<K, V>> loader) {
+        if (!referenceCacheProperties.isEnabled()) {
+            return loader.apply(new HashSet<>(keys));
+        }
+
+        String regionName = type.getSimpleName() + "." + attribute;
+        var region = regions.computeIfAbsent(regionName, name -> new Region());
+        long now = System.nanoTime();
+        Map<K, V> values = new HashMap<>();
+        Set<K> missing = new HashSet<>();
+        synchronized (region) {
+            for (K key : keys) {
+                V cached = valueOf(region.entries.get(key), now);
+                if (cached != null) {
+                    values.put(key, cached);
+                } else {
+                    missing.add(key);
+                }
+            }
+        }
+        region.hits.add(values.size());
+        if (missing.isEmpty()) {
+            return values;
+        }
+
+        region.misses.add(missing.size());
+        var loaded = loader.apply(missing);
+        synchronized (region) {
+            loaded.forEach((key, value) -> region.entries.put(key,
+                    new CachedValue(value, now + referenceCacheProperties.getTtl().toNanos())));
+        }
+        loaded.keySet().forEach(key -> evictOnRollback(regionName, key));
+        values.putAll(loaded);
+        return values;
+    }
+
+    public void evict(Class<?> type, Object key) {
+        evictNow(type.getSimpleName(), key);
+        afterCompletion(() -> evictNow(type.getSimpleName(), key));
+    }
+
+    public void evictAll(Class<?> type) {
+        evictAllNow(type);
+        afterCompletion(() -> evictAllNow(type));
+    }
+
+    public Map<String, CacheStatsDTO> getStats() {
+        Map<String, CacheStatsDTO> stats = new TreeMap<>();
+        regions.forEach((name, region) -> {
+            long hits = region.hits.sum();
+            long misses = region.misses.sum();
+            int size;
+            synchronized (region) {
+                size = region.entries.size();
+            }
+            stats.put(name, new CacheStatsDTO(size, hits, misses, region.evictions.sum(),
+                    hits + misses == 0 ? 0.0 : (double) hits / (hits + misses)));
+        });
+        return stats;
+    }
+
+    @Scheduled(fixedDelayString = "${cache.reference.stats-log-interval:600000}",
+            initialDelayString = "${cache.reference.stats-log-interval:600000}")
+    public void logStats() {
+        getStats().forEach((name, stats) -> log.info("Reference cache {}: size {}, hits {}, misses {}, "
+                        + "evictions {}, hit rate {}", name, stats.getSize(), stats.getHits(), stats.getMisses(),
+                stats.getEvictions(), String.format("%.2f", stats.getHitRate())));
+    }
+
+    @SuppressWarnings("unchecked")
+    private <V> V valueOf(CachedValue cached, long now) {
+        return cached != null && cached.expiresAt() - now > 0 ? (V) cached.value() : null;
+    }
+
+    private void evictNow(String regionName, Object key) {
+        var region = regions.get(regionName);
+        if (region != null) {
+            synchronized (region) {
+                region.entries.remove(key);
+            }
+        }
+    }
+
+    private void evictAllNow(Class<?> type) {
+        String prefix = type.getSimpleName();
+        regions.forEach((name, region) -> {
+            if (name.equals(prefix) || name.startsWith(prefix + ".")) {
+                synchronized (region) {
+                    region.entries.clear();
+                }
+            }
+        });
+    }
+
+    private void evictOnRollback(String regionName, Object key) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.getSynchronizations().stream()
+                .filter(RollbackEviction.class::isInstance)
+                .map(RollbackEviction.class::cast)
+                .findFirst()
+                .orElseGet(() -> {
+                    var eviction = new RollbackEviction();
+                    TransactionSynchronizationManager.registerSynchronization(eviction);
+                    return eviction;
+                })
+                .keys.add(new RegionKey(regionName, key));
+    }
+
+    private void afterCompletion(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    action.run();
+                }
+            });
+        }
+    }
+
+    private record CachedValue(Object value, long expiresAt) {
+    }
+
+    private record RegionKey(String region, Object key) {
+    }
+
+    private final class RollbackEviction implements TransactionSynchronization {
+        private final Set<RegionKey> keys = new HashSet<>();
+
+        @Override
+        public void afterCompletion(int status) {
+            if (status != STATUS_COMMITTED) {
+                keys.forEach(regionKey -> evictNow(regionKey.region(), regionKey.key()));
+            }
+        }
+    }
+
+    private final class Region {
+        private final LongAdder hits = new LongAdder();
+        private final LongAdder misses = new LongAdder();
+        private final LongAdder evictions = new LongAdder();
+        private final Map<Object, CachedValue> entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Object, CachedValue> eldest) {
+                if (size() > referenceCacheProperties.getMaxEntries()) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+}
@@ -0,0 +1,18 @@
+package library.code.component;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "cache.reference")
+public class ReferenceCacheProperties {
+    private boolean enabled = true;
+    private int maxEntries = 1000;
+    private Duration ttl = Duration.ofMinutes(10);
+}
@@ -0,0 +1,49 @@
+package library.code.component;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+@Slf4j
+@Component
+public class RequestMemo {
+    private static final String ATTRIBUTE_PREFIX = RequestMemo.class.getName() + ".";
+
+    @SuppressWarnings("unchecked")
+    public <T> T get(String namespace, Object key, Supplier<T> loader) {
+        var attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return loader.get();
+        }
+
+        String attribute = ATTRIBUTE_PREFIX + namespace;
+        var memo = (Map<Object, Object>) attributes.getAttribute(attribute, RequestAttributes.SCOPE_REQUEST);
+        if (memo == null) {
+            memo = new HashMap<>();
+            attributes.setAttribute(attribute, memo, RequestAttributes.SCOPE_REQUEST);
+        } else if (memo.containsKey(key)) {
+            log.debug("Reusing {} for key {} within the current request", namespace, key);
+            return (T) memo.get(key);
+        }
+
+        T value = loader.get();
+        memo.put(key, value);
+        return value;
+    }
+
+    public void evict(String namespace, Object key) {
+        var attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return;
+        }
+        var memo = attributes.getAttribute(ATTRIBUTE_PREFIX + namespace, RequestAttributes.SCOPE_REQUEST);
+        if (memo instanceof Map<?, ?> map) {
+            map.remove(key);
+        }
+    }
+}
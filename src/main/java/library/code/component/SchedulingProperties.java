@@ -0,0 +1,18 @@
+package library.code.component;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "scheduling.lease")
+public class SchedulingProperties {
+    private String nodeId;
+    private Duration duration = Duration.ofMinutes(5);
+    private Duration heartbeatInterval = Duration.ofMinutes(1);
+}
@@ -0,0 +1,18 @@
+package library.code.component;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "search.index")
+public class SearchProperties {
+    private boolean enabled = true;
+    private int batchSize = 1000;
+    private int maxCandidates = 5000;
+    private double fuzzyThreshold = 0.3;
+    private int maxSuggestions = 10;
+}
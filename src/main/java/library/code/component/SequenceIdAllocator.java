@@ -0,0 +1,79 @@
+package library.code.component;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import library.code.models.BaseEntity;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SequenceIdAllocator {
+    private static final Map<String, String> SEQUENCES_BY_TABLE = new LinkedHashMap<>();
+
+    static {
+        SEQUENCES_BY_TABLE.put("roles", "roles_seq");
+        SEQUENCES_BY_TABLE.put("notification_statuses", "notification_statuses_seq");
+        SEQUENCES_BY_TABLE.put("users", "users_seq");
+        SEQUENCES_BY_TABLE.put("administrators", "administrators_seq");
+        SEQUENCES_BY_TABLE.put("readers", "readers_seq");
+        SEQUENCES_BY_TABLE.put("library_cards", "library_cards_seq");
+        SEQUENCES_BY_TABLE.put("authors", "authors_seq");
+        SEQUENCES_BY_TABLE.put("publishers", "publishers_seq");
+        SEQUENCES_BY_TABLE.put("genres", "genres_seq");
+        SEQUENCES_BY_TABLE.put("books", "books_seq");
+        SEQUENCES_BY_TABLE.put("library_card_books", "library_card_books_seq");
+        SEQUENCES_BY_TABLE.put("notification_outbox", "notification_outbox_seq");
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+    private Dialect dialect;
+
+    @PostConstruct
+    public void alignSequences() {
+        dialect = entityManagerFactory.unwrap(SessionFactoryImplementor.class).getJdbcServices().getDialect();
+        SEQUENCES_BY_TABLE.forEach(this::align);
+    }
+
+    public List<Long> allocate(String sequenceName, int count) {
+        List<Long> ids = new ArrayList<>(count);
+        while (ids.size() < count) {
+            long hi = nextValue(sequenceName);
+            for (long id = Math.max(1, hi - BaseEntity.ID_ALLOCATION_SIZE + 1); id <= hi && ids.size() < count; id++) {
+                ids.add(id);
+            }
+        }
+        return ids;
+    }
+
+    private void align(String table, String sequenceName) {
+        Long maxId = jdbcTemplate.queryForObject("select coalesce(max(id), 0) from " + table, Long.class);
+        long next = nextValue(sequenceName);
+        if (maxId != null && next - BaseEntity.ID_ALLOCATION_SIZE < maxId) {
+            long restartWith = maxId + BaseEntity.ID_ALLOCATION_SIZE;
+            jdbcTemplate.execute("alter sequence " + sequenceName + " restart with " + restartWith);
+            log.info("Sequence {} moved past existing ids of {}, restarting with {}", sequenceName, table,
+                    restartWith);
+        }
+    }
+
+    private long nextValue(String sequenceName) {
+        Long value = jdbcTemplate.queryForObject(
+                dialect.getSequenceSupport().getSequenceNextValString(sequenceName), Long.class);
+        if (value == null) {
+            throw new IllegalStateException("Sequence " + sequenceName + " returned no value");
+        }
+        return value;
+    }
+}
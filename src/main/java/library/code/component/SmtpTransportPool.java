@@ -0,0 +1,116 @@
+package library.code.component;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Transport;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.stereotype.Component;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+@Slf4j
+@Component
+public class SmtpTransportPool {
+    private final JavaMailSenderImpl mailSender;
+    private final NotificationProperties.Smtp smtpProperties;
+    private final Semaphore permits;
+    private final Queue<PooledTransport> idleTransports = new ConcurrentLinkedQueue<>();
+
+    public SmtpTransportPool(JavaMailSenderImpl mailSender, NotificationProperties notificationProperties) {
+        this.mailSender = mailSender;
+        this.smtpProperties = notificationProperties.getSmtp();
+        this.permits = new Semaphore(smtpProperties.getPoolSize());
+    }
+
+    public PooledTransport borrow() {
+        try {
+            if (!permits.tryAcquire(smtpProperties.getBorrowTimeout().toMillis(), TimeUnit.MILLISECONDS)) {
+                throw new MailSendException("No SMTP connection available within "
+                        + smtpProperties.getBorrowTimeout());
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new MailSendException("Interrupted while waiting for SMTP connection", ex);
+        }
+
+        var transport = idleTransports.poll();
+        if (transport != null) {
+            return transport;
+        }
+        try {
+            return new PooledTransport(mailSender.getSession().getTransport(mailSender.getProtocol()));
+        } catch (MessagingException ex) {
+            permits.release();
+            throw new MailSendException("Failed to create SMTP transport", ex);
+        }
+    }
+
+    public void release(PooledTransport transport) {
+        if (transport.isConnected()) {
+            idleTransports.offer(transport);
+        } else {
+            transport.close();
+        }
+        permits.release();
+    }
+
+    @PreDestroy
+    public void closeAll() {
+        PooledTransport transport;
+        while ((transport = idleTransports.poll()) != null) {
+            transport.close();
+        }
+    }
+
+    public final class PooledTransport {
+        private final Transport transport;
+        private int sentOnConnection;
+        private long lastSentNanos;
+
+        private PooledTransport(Transport transport) {
+            this.transport = transport;
+        }
+
+        public void send(MimeMessage message) throws MessagingException {
+            if (sentOnConnection >= smtpProperties.getMaxMessagesPerConnection()) {
+                log.debug("SMTP connection reached {} messages, reconnecting", sentOnConnection);
+                close();
+            }
+            if (!transport.isConnected()) {
+                transport.connect(mailSender.getHost(), mailSender.getPort(),
+                        mailSender.getUsername(), mailSender.getPassword());
+                sentOnConnection = 0;
+            }
+
+            long waitNanos = lastSentNanos + smtpProperties.getMinMessageInterval().toNanos() - System.nanoTime();
+            if (lastSentNanos > 0 && waitNanos > 0) {
+                LockSupport.parkNanos(waitNanos);
+            }
+
+            message.saveChanges();
+            transport.sendMessage(message, message.getAllRecipients());
+            sentOnConnection++;
+            lastSentNanos = System.nanoTime();
+        }
+
+        private boolean isConnected() {
+            return transport.isConnected();
+        }
+
+        private void close() {
+            try {
+                transport.close();
+            } catch (MessagingException ex) {
+                log.debug("Failed to close SMTP connection: {}", ex.getMessage());
+            }
+            sentOnConnection = 0;
+        }
+    }
+}
@@ -0,0 +1,344 @@
+package library.code.component;
+
+import library.code.dto.suggestionDTO.SuggestionDTO;
+import library.code.dto.suggestionDTO.SuggestionSourceDTO;
+import library.code.dto.suggestionDTO.SuggestionType;
+import library.code.repositories.AuthorRepository;
+import library.code.repositories.BookRepository;
+import library.code.repositories.PublisherRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SuggestionIndex {
+    private static final Comparator<SuggestionDTO> BY_WEIGHT = Comparator
+            .comparingLong(SuggestionDTO::getWeight).reversed()
+            .thenComparing(SuggestionDTO::getText);
+
+    private final BookRepository bookRepository;
+    private final AuthorRepository authorRepository;
+    private final PublisherRepository publisherRepository;
+    private final SearchProperties searchProperties;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final List<Consumer<Trie>> pendingDuringRebuild = new ArrayList<>();
+    private Trie trie;
+    private boolean rebuilding;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    @Scheduled(fixedDelayString = "${search.index.rebuild-delay:1800000}",
+            initialDelayString = "${search.index.rebuild-delay:1800000}")
+    public void rebuild() {
+        if (!searchProperties.isEnabled()) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            if (rebuilding) {
+                return;
+            }
+            rebuilding = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        long startedAt = System.currentTimeMillis();
+        Trie fresh = new Trie(searchProperties.getMaxSuggestions());
+        try {
+            load(fresh, SuggestionType.TITLE, bookRepository.findTitleSuggestions());
+            load(fresh, SuggestionType.AUTHOR, authorRepository.findAuthorSuggestions());
+            load(fresh, SuggestionType.PUBLISHER, publisherRepository.findPublisherSuggestions());
+        } catch (RuntimeException ex) {
+            log.error("Failed to rebuild suggestion index: {}", ex.getMessage(), ex);
+            lock.writeLock().lock();
+            try {
+                rebuilding = false;
+                pendingDuringRebuild.clear();
+            } finally {
+                lock.writeLock().unlock();
+            }
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            pendingDuringRebuild.forEach(update -> update.accept(fresh));
+            pendingDuringRebuild.clear();
+            trie = fresh;
+            rebuilding = false;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Suggestion index rebuilt with {} entries in {} ms", fresh.size(),
+                System.currentTimeMillis() - startedAt);
+    }
+
+    public void add(SuggestionType type, String text, long weight) {
+        if (text != null && !text.isBlank()) {
+            String trimmed = text.trim();
+            update(target -> target.add(type, trimmed, 1, weight));
+        }
+    }
+
+    public void increment(SuggestionType type, String text, long delta) {
+        if (text != null && !text.isBlank()) {
+            String trimmed = text.trim();
+            update(target -> target.increment(type, trimmed, delta));
+        }
+    }
+
+    public void remove(SuggestionType type, String text, long weight) {
+        if (text != null && !text.isBlank()) {
+            String trimmed = text.trim();
+            update(target -> target.remove(type, trimmed, weight));
+        }
+    }
+
+    private void update(Consumer<Trie> update) {
+        lock.writeLock().lock();
+        try {
+            if (trie != null) {
+                update.accept(trie);
+            }
+            if (rebuilding) {
+                pendingDuringRebuild.add(update);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public List<SuggestionDTO> suggest(String prefix, int limit) {
+        if (prefix == null || prefix.isBlank()) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            if (trie == null) {
+                return List.of();
+            }
+            return trie.find(BookSearchIndex.normalize(prefix.trim()), limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void load(Trie target, SuggestionType type, List<SuggestionSourceDTO> sources) {
+        for (var source : sources) {
+            if (source.getText() != null && !source.getText().isBlank()) {
+                target.add(type, source.getText().trim(), source.getSources() != null ? source.getSources() : 1,
+                        source.getWeight() != null ? source.getWeight() : 0);
+            }
+        }
+    }
+
+    private static final class Trie {
+        private static final SuggestionDTO[] NO_SUGGESTIONS = new SuggestionDTO[0];
+
+        private final int topSize;
+        private final Node root = new Node();
+        private final Map<String, SuggestionDTO> entries = new HashMap<>();
+        private final Map<String, Long> sources = new HashMap<>();
+
+        private Trie(int topSize) {
+            this.topSize = topSize;
+        }
+
+        private int size() {
+            return entries.size();
+        }
+
+        private void add(SuggestionType type, String text, long count, long weight) {
+            sources.merge(key(type, text), count, Long::sum);
+            increment(type, text, weight);
+        }
+
+        private void remove(SuggestionType type, String text, long weight) {
+            String key = key(type, text);
+            if (!entries.containsKey(key)) {
+                return;
+            }
+            long remaining = sources.merge(key, -1L, Long::sum);
+            if (remaining > 0) {
+                increment(type, text, -weight);
+                return;
+            }
+            sources.remove(key);
+            var removed = entries.remove(key);
+            String normalized = BookSearchIndex.normalize(text);
+            for (int start : wordStarts(normalized)) {
+                List<Node> path = findPath(normalized, start);
+                if (path.size() == normalized.length() - start) {
+                    path.get(path.size() - 1).removeEnding(removed);
+                }
+                refresh(path);
+            }
+        }
+
+        private void increment(SuggestionType type, String text, long delta) {
+            String key = key(type, text);
+            var current = entries.get(key);
+            var updated = new SuggestionDTO(type, text, (current != null ? current.getWeight() : 0) + delta);
+            entries.put(key, updated);
+
+            String normalized = BookSearchIndex.normalize(text);
+            for (int start : wordStarts(normalized)) {
+                List<Node> path = new ArrayList<>(normalized.length() - start);
+                Node node = root;
+                for (int i = start; i < normalized.length(); i++) {
+                    node = node.child(normalized.charAt(i));
+                    path.add(node);
+                    if (delta >= 0) {
+                        node.offer(updated, topSize);
+                    }
+                }
+                node.putEnding(updated);
+                if (delta < 0) {
+                    refresh(path);
+                }
+            }
+        }
+
+        private List<Node> findPath(String normalized, int start) {
+            List<Node> path = new ArrayList<>(normalized.length() - start);
+            Node node = root;
+            for (int i = start; i < normalized.length(); i++) {
+                node = node.get(normalized.charAt(i));
+                if (node == null) {
+                    break;
+                }
+                path.add(node);
+            }
+            return path;
+        }
+
+        private void refresh(List<Node> path) {
+            for (int i = path.size() - 1; i >= 0; i--) {
+                path.get(i).recompute(topSize);
+            }
+        }
+
+        private List<SuggestionDTO> find(String prefix, int limit) {
+            Node node = root;
+            for (int i = 0; i < prefix.length() && node != null; i++) {
+                node = node.get(prefix.charAt(i));
+            }
+            if (node == null) {
+                return List.of();
+            }
+            return Arrays.stream(node.top).limit(limit).toList();
+        }
+
+        private static List<Integer> wordStarts(String text) {
+            List<Integer> starts = new ArrayList<>();
+            for (int i = 0; i < text.length(); i++) {
+                if (Character.isLetterOrDigit(text.charAt(i))
+                        && (i == 0 || !Character.isLetterOrDigit(text.charAt(i - 1)))) {
+                    starts.add(i);
+                }
+            }
+            return starts;
+        }
+
+        private static String key(SuggestionType type, String text) {
+            return type.name() + ':' + text;
+        }
+
+        private static final class Node {
+            private static final char[] NO_KEYS = new char[0];
+            private static final Node[] NO_CHILDREN = new Node[0];
+
+            private char[] keys = NO_KEYS;
+            private Node[] children = NO_CHILDREN;
+            private SuggestionDTO[] top = NO_SUGGESTIONS;
+            private SuggestionDTO[] endings = NO_SUGGESTIONS;
+
+            private Node get(char key) {
+                int index = Arrays.binarySearch(keys, key);
+                return index >= 0 ? children[index] : null;
+            }
+
+            private Node child(char key) {
+                int index = Arrays.binarySearch(keys, key);
+                if (index >= 0) {
+                    return children[index];
+                }
+                int insertAt = -index - 1;
+                char[] newKeys = new char[keys.length + 1];
+                Node[] newChildren = new Node[children.length + 1];
+                System.arraycopy(keys, 0, newKeys, 0, insertAt);
+                System.arraycopy(children, 0, newChildren, 0, insertAt);
+                newKeys[insertAt] = key;
+                newChildren[insertAt] = new Node();
+                System.arraycopy(keys, insertAt, newKeys, insertAt + 1, keys.length - insertAt);
+                System.arraycopy(children, insertAt, newChildren, insertAt + 1, children.length - insertAt);
+                keys = newKeys;
+                children = newChildren;
+                return newChildren[insertAt];
+            }
+
+            private void offer(SuggestionDTO suggestion, int topSize) {
+                List<SuggestionDTO> candidates = without(top, suggestion);
+                candidates.add(suggestion);
+                candidates.sort(BY_WEIGHT);
+                top = candidates.subList(0, Math.min(topSize, candidates.size())).toArray(NO_SUGGESTIONS);
+            }
+
+            private void putEnding(SuggestionDTO suggestion) {
+                List<SuggestionDTO> updated = without(endings, suggestion);
+                updated.add(suggestion);
+                endings = updated.toArray(NO_SUGGESTIONS);
+            }
+
+            private void removeEnding(SuggestionDTO suggestion) {
+                endings = without(endings, suggestion).toArray(NO_SUGGESTIONS);
+            }
+
+            private void recompute(int topSize) {
+                Map<String, SuggestionDTO> candidates = new HashMap<>();
+                for (var ending : endings) {
+                    candidates.put(key(ending.getType(), ending.getText()), ending);
+                }
+                for (var child : children) {
+                    for (var suggestion : child.top) {
+                        candidates.put(key(suggestion.getType(), suggestion.getText()), suggestion);
+                    }
+                }
+                top = candidates.values().stream()
+                        .sorted(BY_WEIGHT)
+                        .limit(topSize)
+                        .toArray(SuggestionDTO[]::new);
+            }
+
+            private static List<SuggestionDTO> without(SuggestionDTO[] suggestions, SuggestionDTO suggestion) {
+                List<SuggestionDTO> remaining = new ArrayList<>(suggestions.length + 1);
+                for (var existing : suggestions) {
+                    if (existing.getType() != suggestion.getType()
+                            || !existing.getText().equals(suggestion.getText())) {
+                        remaining.add(existing);
+                    }
+                }
+                return remaining;
+            }
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package library.code.component;
+
+import library.code.dto.cacheDTO.CacheStatsDTO;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class VerifiedJwtCache {
+    private final JwtCacheProperties jwtCacheProperties;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final Map<String, CachedJwt> entries = new ConcurrentHashMap<>();
+    private final AtomicBoolean evicting = new AtomicBoolean();
+
+    public Jwt decode(String token, Function<String, Jwt> decoder) {
+        if (!jwtCacheProperties.isEnabled()) {
+            return decoder.apply(token);
+        }
+
+        String key = hash(token);
+        Instant now = Instant.now();
+        var cached = entries.get(key);
+        if (cached != null) {
+            if (now.isBefore(cached.jwt().getExpiresAt())) {
+                cached.touch();
+                hits.increment();
+                return cached.jwt();
+            }
+            entries.remove(key, cached);
+        }
+
+        misses.increment();
+        var jwt = decoder.apply(token);
+        if (jwt.getExpiresAt() != null && now.isBefore(jwt.getExpiresAt())) {
+            entries.put(key, new CachedJwt(jwt));
+            if (entries.size() > jwtCacheProperties.getMaxEntries()) {
+                evictOverflow(now);
+            }
+        }
+        return jwt;
+    }
+
+    public CacheStatsDTO getStats() {
+        long hitCount = hits.sum();
+        long missCount = misses.sum();
+        return new CacheStatsDTO(entries.size(), hitCount, missCount, evictions.sum(),
+                hitCount + missCount == 0 ? 0.0 : (double) hitCount / (hitCount + missCount));
+    }
+
+    @Scheduled(fixedDelayString = "${cache.jwt.stats-log-interval:600000}",
+            initialDelayString = "${cache.jwt.stats-log-interval:600000}")
+    public void logStats() {
+        Instant now = Instant.now();
+        int expired = removeExpired(now);
+        var stats = getStats();
+        log.info("Verified JWT cache: size {}, hits {}, misses {}, evictions {}, expired {}, hit rate {}",
+                stats.getSize(), stats.getHits(), stats.getMisses(), stats.getEvictions(), expired,
+                String.format("%.2f", stats.getHitRate()));
+    }
+
+    private void evictOverflow(Instant now) {
+        if (!evicting.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            removeExpired(now);
+            int target = jwtCacheProperties.getMaxEntries() - jwtCacheProperties.getMaxEntries() / 10;
+            int overflow = entries.size() - target;
+            if (overflow <= 0) {
+                return;
+            }
+            entries.entrySet().stream()
+                    .map(entry -> new AccessStamp(entry.getKey(), entry.getValue(), entry.getValue().lastAccess))
+                    .sorted(Comparator.comparingLong(AccessStamp::lastAccess))
+                    .limit(overflow)
+                    .filter(stamp -> entries.remove(stamp.key(), stamp.cached()))
+                    .forEach(stamp -> evictions.increment());
+        } finally {
+            evicting.set(false);
+        }
+    }
+
+    private int removeExpired(Instant now) {
+        int expired = 0;
+        var iterator = entries.values().iterator();
+        while (iterator.hasNext()) {
+            if (!now.isBefore(iterator.next().jwt().getExpiresAt())) {
+                iterator.remove();
+                expired++;
+            }
+        }
+        return expired;
+    }
+
+    private static final class CachedJwt {
+        private final Jwt jwt;
+        private volatile long lastAccess = System.nanoTime();
+
+        private CachedJwt(Jwt jwt) {
+            this.jwt = jwt;
+        }
+
+        private Jwt jwt() {
+            return jwt;
+        }
+
+        private void touch() {
+            lastAccess = System.nanoTime();
+        }
+    }
+
+    private record AccessStamp(String key, CachedJwt cached, long lastAccess) {
+    }
+
+    private static String hash(String token) {
+        try {
+            var digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+    }
+}
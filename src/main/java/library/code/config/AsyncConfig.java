@@ -1,22 +1,62 @@
 package library.code.config;
 
+import library.code.component.LoginProperties;
+import library.code.component.NotificationProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
 
 @Configuration
 @EnableAsync
+@RequiredArgsConstructor
+@Slf4j
 public class AsyncConfig {
+
+    private final NotificationProperties notificationProperties;
+    private final LoginProperties loginProperties;
+
     @Bean(name = "emailTaskExecutor")
     public Executor getExecutor() {
+        var executorProperties = notificationProperties.getExecutor();
+
+        if (executorProperties.isVirtualThreads()) {
+            log.info("Using virtual threads for emailTaskExecutor with concurrency limit {}",
+                    executorProperties.getConcurrencyLimit());
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("EmailAsync-");
+            executor.setVirtualThreads(true);
+            executor.setConcurrencyLimit(executorProperties.getConcurrencyLimit());
+            return executor;
+        }
+
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-        executor.setCorePoolSize(2);
-        executor.setMaxPoolSize(5);
-        executor.setQueueCapacity(10);
+        executor.setCorePoolSize(executorProperties.getCorePoolSize());
+        executor.setMaxPoolSize(executorProperties.getMaxPoolSize());
+        executor.setQueueCapacity(executorProperties.getQueueCapacity());
         executor.setThreadNamePrefix("EmailAsync-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    @Bean(name = "loginTaskExecutor")
+    public ThreadPoolTaskExecutor getLoginExecutor() {
+        var executorProperties = loginProperties.getExecutor();
+        log.info("Using loginTaskExecutor with {} threads and queue capacity {}",
+                executorProperties.getPoolSize(), executorProperties.getQueueCapacity());
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(executorProperties.getPoolSize());
+        executor.setMaxPoolSize(executorProperties.getPoolSize());
+        executor.setQueueCapacity(executorProperties.getQueueCapacity());
+        executor.setThreadNamePrefix("LoginAuth-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
         executor.initialize();
         return executor;
     }
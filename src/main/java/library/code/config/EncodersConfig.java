@@ -7,6 +7,7 @@ import com.nimbusds.jose.jwk.source.ImmutableJWKSet;
 import com.nimbusds.jose.jwk.source.JWKSource;
 import com.nimbusds.jose.proc.SecurityContext;
 import library.code.component.RsaKeyProperties;
+import library.code.component.VerifiedJwtCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -22,6 +23,7 @@ import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
 public class EncodersConfig {
 
     private final RsaKeyProperties rsaKeys;
+    private final VerifiedJwtCache verifiedJwtCache;
 
     @Bean
     public PasswordEncoder passwordEncoder() {
@@ -37,6 +39,7 @@ public class EncodersConfig {
 
     @Bean
     JwtDecoder jwtDecoder() {
-        return NimbusJwtDecoder.withPublicKey(rsaKeys.getPublicKey()).build();
+        JwtDecoder decoder = NimbusJwtDecoder.withPublicKey(rsaKeys.getPublicKey()).build();
+        return token -> verifiedJwtCache.decode(token, decoder::decode);
     }
 }
@@ -1,6 +1,7 @@
 package library.code.config;
 
 import library.code.service.UserService;
+import library.code.unil.JwtPrincipalAuthenticationConverter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -15,15 +16,9 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.crypto.password.PasswordEncoder;
-import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationConverter;
 import org.springframework.security.web.SecurityFilterChain;
 
-import java.util.ArrayList;
-import java.util.Collection;
-
 @Configuration
 @EnableWebSecurity
 @RequiredArgsConstructor
@@ -52,20 +47,8 @@ public class SecurityConfig {
     }
 
     @Bean
-    public JwtAuthenticationConverter authenticationConverter() {
-        JwtAuthenticationConverter converter = new JwtAuthenticationConverter();
-        converter.setJwtGrantedAuthoritiesConverter(jwt -> {
-            Collection<GrantedAuthority> authorities = new ArrayList<>();
-            String role = jwt.getClaimAsString("role");
-            if (role != null) {
-                if (!role.startsWith("ROLE_")) {
-                    role = "ROLE_" + role;
-                }
-                authorities.add(new SimpleGrantedAuthority(role));
-            }
-            return authorities;
-        });
-        return converter;
+    public JwtPrincipalAuthenticationConverter authenticationConverter() {
+        return new JwtPrincipalAuthenticationConverter();
     }
 
     @Bean
@@ -2,16 +2,16 @@ package library.code.controllers.api;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import library.code.dto.AuthRequest;
 import library.code.repositories.UserRepository;
+import library.code.service.LoginService;
 import library.code.unil.JWTUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.BadCredentialsException;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
@@ -30,21 +30,20 @@ import org.springframework.web.bind.annotation.RestController;
 public class AuthenticationController {
 
     private final JWTUtils jwtUtils;
-    private final AuthenticationManager authenticationManager;
+    private final LoginService loginService;
     private final UserRepository userRepository;
 
     @Operation(summary = "Аутентификация пользователя",
             description = "Метод принимает данные для входа (email и пароль), "
-                    + "аутентифицирует пользователя и возвращает JWT токен")
+                    + "аутентифицирует пользователя и возвращает JWT токен. При превышении лимита попыток "
+                    + "для аккаунта или IP-адреса возвращает 429 с заголовком Retry-After")
     @PostMapping("/login")
-    public ResponseEntity<?> create(@RequestBody AuthRequest authRequest) {
+    public ResponseEntity<?> create(@RequestBody AuthRequest authRequest, HttpServletRequest request) {
         log.info("Attempting to authenticate user with email: {}", authRequest.getEmail());
 
         try {
-            var authentication = new UsernamePasswordAuthenticationToken(
-                    authRequest.getEmail(), authRequest.getPassword());
-
-            Authentication authenticate = authenticationManager.authenticate(authentication);
+            Authentication authenticate = loginService.authenticate(authRequest.getEmail(),
+                    authRequest.getPassword(), request.getRemoteAddr());
 
             var userDetails = (UserDetails) authenticate.getPrincipal();
 
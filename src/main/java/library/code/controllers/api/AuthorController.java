@@ -49,10 +49,11 @@ public class AuthorController {
                                                           @RequestParam(defaultValue = "id, asc") String sort) {
 
         log.info("Fetching authors list with params: {}, page: {}, sort: {}", params, page, sort);
-        var authorList = authorService.getAllAuthors(params, page, sort);
+        var authorPage = authorService.getAllAuthors(params, page, sort);
+        var authorList = authorPage.getItems();
         log.info("Found {} authors", authorList.size());
         return ResponseEntity.ok()
-                .header("X-Total-Count", String.valueOf(authorList.size()))
+                .header("X-Total-Count", String.valueOf(authorPage.getTotalCount()))
                 .body(authorList);
     }
 
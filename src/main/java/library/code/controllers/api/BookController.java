@@ -3,14 +3,23 @@ package library.code.controllers.api;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import library.code.dto.bookDTO.BookCreateDTO;
 import library.code.dto.bookDTO.BookDTO;
+import library.code.dto.bookDTO.BookImportResultDTO;
+import library.code.dto.bookDTO.BookSearchResultDTO;
 import library.code.dto.bookDTO.BookUpdateDTO;
+import library.code.dto.exportDTO.ExportFormat;
 import library.code.dto.specificationDTO.BookParamDTO;
+import library.code.dto.suggestionDTO.SuggestionDTO;
+import library.code.service.BookImportService;
 import library.code.service.BookService;
+import library.code.service.CatalogExportService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -20,11 +29,14 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 
 @RestController
@@ -36,24 +48,71 @@ import java.util.List;
 public class BookController {
 
     private final BookService bookService;
+    private final BookImportService bookImportService;
+    private final CatalogExportService catalogExportService;
 
     @Operation(
             summary = "Получение списка книг",
-            description = "Возвращает список книг с возможностью фильтрации, пагинации и сортировки"
+            description = "Возвращает список книг с возможностью фильтрации, пагинации и сортировки. "
+                    + "Для курсорной пагинации передайте значение заголовка X-Next-Cursor в параметре after"
     )
     @SecurityRequirement(name = "JWT")
     @GetMapping
     @PreAuthorize("hasRole('ADMIN') or hasRole('READER')")
     public ResponseEntity<List<BookDTO>> getListBooks(BookParamDTO params,
                                                       @RequestParam(defaultValue = "1") int page,
+                                                      @RequestParam(required = false) Integer size,
+                                                      @RequestParam(required = false) String after,
                                                       @RequestParam(defaultValue = "id, asc") String sort) {
 
-        log.info("Fetching books list with params: {}, page: {}, sort: {}", params, page, sort);
-        var bookList = bookService.getAllBooks(params, page, sort);
+        log.info("Fetching books list with params: {}, page: {}, size: {}, after: {}, sort: {}",
+                params, page, size, after, sort);
+        var bookPage = bookService.getAllBooks(params, page, size, after, sort);
+        var bookList = bookPage.getItems();
         log.info("Found {} books", bookList.size());
-        return ResponseEntity.ok()
-                .header("X-Total-Count", String.valueOf(bookList.size()))
-                .body(bookList);
+
+        var response = ResponseEntity.ok()
+                .header("X-Total-Count", String.valueOf(bookPage.getTotalCount()));
+        if (bookPage.getNextCursor() != null) {
+            response.header("X-Next-Cursor", bookPage.getNextCursor());
+        }
+        return response.body(bookList);
+    }
+
+    @Operation(
+            summary = "Поиск книг с фасетами",
+            description = "Возвращает страницу книг вместе с общим количеством и количеством книг по жанрам, "
+                    + "издательствам и направлениям литературы с учётом тех же фильтров"
+    )
+    @SecurityRequirement(name = "JWT")
+    @GetMapping("/search")
+    @ResponseStatus(HttpStatus.OK)
+    @PreAuthorize("hasRole('ADMIN') or hasRole('READER')")
+    public BookSearchResultDTO searchBooks(BookParamDTO params,
+                                           @RequestParam(defaultValue = "1") int page,
+                                           @RequestParam(required = false) Integer size,
+                                           @RequestParam(required = false) String after,
+                                           @RequestParam(defaultValue = "id, asc") String sort) {
+        log.info("Searching books with facets, params: {}, page: {}, size: {}, after: {}, sort: {}",
+                params, page, size, after, sort);
+        var result = bookService.searchBooks(params, page, size, after, sort);
+        log.info("Found {} books with facets", result.getItems().size());
+        return result;
+    }
+
+    @Operation(
+            summary = "Подсказки для поиска",
+            description = "Возвращает самые популярные названия книг, авторов и издательства по префиксу"
+    )
+    @SecurityRequirement(name = "JWT")
+    @GetMapping("/suggest")
+    @ResponseStatus(HttpStatus.OK)
+    @PreAuthorize("hasRole('ADMIN') or hasRole('READER')")
+    public List<SuggestionDTO> suggest(@RequestParam String q, @RequestParam(required = false) Integer limit) {
+        log.info("Fetching suggestions for prefix: {}", q);
+        var suggestions = bookService.suggest(q, limit);
+        log.info("Found {} suggestions", suggestions.size());
+        return suggestions;
     }
 
     @Operation(
@@ -71,6 +130,48 @@ public class BookController {
         return book;
     }
 
+    @Operation(
+            summary = "Массовый импорт книг",
+            description = "Потоково загружает книги из CSV (text/csv, колонки как в JSON книги, жанры через '|') "
+                    + "или NDJSON (application/x-ndjson). Возвращает ошибки по строкам и next_offset "
+                    + "для продолжения импорта"
+    )
+    @SecurityRequirement(name = "JWT")
+    @PostMapping(path = "/import", consumes = {"text/csv", "application/x-ndjson"})
+    @ResponseStatus(HttpStatus.OK)
+    @PreAuthorize("hasRole('ADMIN')")
+    public BookImportResultDTO importBooks(InputStream body,
+                                           @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+                                           @RequestParam(defaultValue = "0") long offset) throws IOException {
+        log.info("Importing books with content type: {}, offset: {}", contentType, offset);
+        var result = bookImportService.importBooks(body, contentType, offset);
+        log.info("Imported {} books, {} rows failed", result.getImportedRows(), result.getFailedRows());
+        return result;
+    }
+
+    @Operation(
+            summary = "Выгрузка всего книжного фонда",
+            description = "Потоково выгружает все книги в NDJSON или CSV (format=ndjson|csv) в формате импорта, "
+                    + "при gzip=true ответ сжимается. Доступно только для пользователей с ролью ADMIN"
+    )
+    @SecurityRequirement(name = "JWT")
+    @GetMapping("/export")
+    @PreAuthorize("hasRole('ADMIN')")
+    public void exportBooks(@RequestParam(defaultValue = "ndjson") String format,
+                            @RequestParam(defaultValue = "false") boolean gzip,
+                            HttpServletResponse response) throws IOException {
+        var exportFormat = ExportFormat.from(format);
+        log.info("Exporting books as {}, gzip: {}", exportFormat, gzip);
+        response.setContentType(exportFormat.getContentType() + ";charset=UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename("books." + exportFormat.getExtension()).build().toString());
+        if (gzip) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        var exported = catalogExportService.exportBooks(exportFormat, gzip, response.getOutputStream());
+        log.info("Successfully exported {} books", exported);
+    }
+
     @Operation(
             summary = "Создание новой книги",
             description = "Создаёт новую книгу на основе переданных данных"
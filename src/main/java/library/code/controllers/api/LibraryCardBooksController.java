@@ -44,7 +44,7 @@ public class LibraryCardBooksController {
     @SecurityRequirement(name = "JWT")
     @GetMapping
     @PreAuthorize("hasRole('ADMIN') or (hasRole('READER') "
-            + "and @libraryCardBooksService.isReaderOwnerOfBook(#id, authentication.principal.id))")
+            + "and @libraryCardBooksService.isReaderOwnerOfCard(#libraryCardId, authentication))")
     public ResponseEntity<List<LibraryCardBookDTO>> getListLibraryBooks(@PathVariable Long libraryCardId) {
 
         log.info("Fetching list of all books in library card with ID: {}", libraryCardId);
@@ -67,7 +67,7 @@ public class LibraryCardBooksController {
     @GetMapping("/{id}")
     @ResponseStatus(HttpStatus.OK)
     @PreAuthorize("hasRole('ADMIN') or (hasRole('READER') "
-            + "and @libraryCardBooksService.isReaderOwnerOfBook(#id, authentication.principal.id))")
+            + "and @libraryCardBooksService.isReaderOwnerOfBook(#id, authentication))")
     public LibraryCardBookDTO getLibraryBook(@PathVariable Long id) {
         log.info("Fetching book with ID: {} , from library card", id);
         var book = cardBooksService.getBooksInCardBooks(id);
@@ -99,7 +99,7 @@ public class LibraryCardBooksController {
     @PutMapping("/{id}")
     @ResponseStatus(HttpStatus.OK)
     @PreAuthorize("hasRole('ADMIN') or (hasRole('READER') "
-            + "and @libraryCardBooksService.isReaderOwnerOfBook(#id, authentication.principal.id))")
+            + "and @libraryCardBooksService.isReaderOwnerOfBook(#id, authentication))")
     public LibraryCardBookDTO updateLibraryBook(@RequestBody @Valid LibraryCardBookUpdateDTO updateDTO,
                                                 @PathVariable Long id) {
         log.info("Updating in library card the record about book with ID: {} and data: {}", id, updateDTO);
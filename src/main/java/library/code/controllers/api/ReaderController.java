@@ -3,15 +3,20 @@ package library.code.controllers.api;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import library.code.dto.exportDTO.ExportFormat;
 import library.code.dto.libraryCardDTO.LibraryCardDTO;
 import library.code.dto.readerDTO.ReaderCreateDTO;
 import library.code.dto.readerDTO.ReaderDTO;
 import library.code.dto.readerDTO.ReaderUpdateDTO;
 import library.code.dto.specificationDTO.ReaderParamDTO;
+import library.code.service.CatalogExportService;
 import library.code.service.ReaderService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -26,6 +31,7 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.io.IOException;
 import java.util.List;
 
 @RestController
@@ -38,6 +44,7 @@ import java.util.List;
 public class ReaderController {
 
     private final ReaderService readerService;
+    private final CatalogExportService catalogExportService;
 
     @Operation(
             summary = "Получение списка всех профилей читателей",
@@ -52,14 +59,38 @@ public class ReaderController {
                                                                   @RequestParam(defaultValue = "id, asc") String sort) {
 
         log.info("Received request to fetch reader profiles with parameters: page = {}, sort = {}", page, sort);
-        var allReaders = readerService.getAllReaders(params, page, sort);
+        var readerPage = readerService.getAllReaders(params, page, sort);
+        var allReaders = readerPage.getItems();
         log.info("Total number of reader profiles fetched: {}", allReaders.size());
         return ResponseEntity.ok()
-                .header("X-Total-Count", String.valueOf(allReaders.size()))
+                .header("X-Total-Count", String.valueOf(readerPage.getTotalCount()))
                 .body(allReaders);
     }
 
 
+    @Operation(
+            summary = "Выгрузка всех профилей читателей",
+            description = "Потоково выгружает все профили читателей в NDJSON или CSV (format=ndjson|csv), "
+                    + "при gzip=true ответ сжимается. Доступно только для пользователей с ролью ADMIN"
+    )
+    @SecurityRequirement(name = "JWT")
+    @GetMapping("/export")
+    @PreAuthorize("hasRole('ADMIN')")
+    public void exportReaders(@RequestParam(defaultValue = "ndjson") String format,
+                              @RequestParam(defaultValue = "false") boolean gzip,
+                              HttpServletResponse response) throws IOException {
+        var exportFormat = ExportFormat.from(format);
+        log.info("Received request to export reader profiles as {}, gzip: {}", exportFormat, gzip);
+        response.setContentType(exportFormat.getContentType() + ";charset=UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename("readers." + exportFormat.getExtension()).build().toString());
+        if (gzip) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        var exported = catalogExportService.exportReaders(exportFormat, gzip, response.getOutputStream());
+        log.info("Total number of reader profiles exported: {}", exported);
+    }
+
     @Operation(
             summary = "Получение профиля читателя",
             description = "Возвращает информацию о конкретном профиле читателя по его уникальному идентификатору. "
@@ -0,0 +1,14 @@
+package library.code.dto.authorDTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class AuthorReferenceDTO {
+    private final Long id;
+
+    private final String firstName;
+
+    private final String lastName;
+}
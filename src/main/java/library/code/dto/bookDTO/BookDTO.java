@@ -3,6 +3,7 @@ package library.code.dto.bookDTO;
 import com.fasterxml.jackson.annotation.JsonFormat;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 import java.time.LocalDate;
@@ -10,6 +11,7 @@ import java.util.Set;
 
 @Getter
 @Setter
+@NoArgsConstructor
 public class BookDTO {
     private Long id;
 
@@ -37,4 +39,16 @@ public class BookDTO {
 
     @JsonProperty("direction_of_literature")
     private String directionOfLiterature;
+
+    public BookDTO(Long id, String bookTitle, String authorFirstName, String authorSurname, String publisherTitle,
+                   LocalDate publishedDate, String isbn, String directionOfLiterature) {
+        this.id = id;
+        this.bookTitle = bookTitle;
+        this.authorFirstName = authorFirstName;
+        this.authorSurname = authorSurname;
+        this.publisherTitle = publisherTitle;
+        this.publishedDate = publishedDate;
+        this.isbn = isbn;
+        this.directionOfLiterature = directionOfLiterature;
+    }
 }
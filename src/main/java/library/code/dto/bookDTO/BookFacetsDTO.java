@@ -0,0 +1,21 @@
+package library.code.dto.bookDTO;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import library.code.dto.specificationDTO.FacetValueDTO;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class BookFacetsDTO {
+    @JsonProperty("genres")
+    private List<FacetValueDTO> genres;
+
+    @JsonProperty("publishers")
+    private List<FacetValueDTO> publishers;
+
+    @JsonProperty("directions_of_literature")
+    private List<FacetValueDTO> directionsOfLiterature;
+}
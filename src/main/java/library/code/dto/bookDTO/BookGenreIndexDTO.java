@@ -0,0 +1,14 @@
+package library.code.dto.bookDTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class BookGenreIndexDTO {
+    private Long bookId;
+
+    private Long genreId;
+
+    private String typeOfGenre;
+}
@@ -0,0 +1,15 @@
+package library.code.dto.bookDTO;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class BookImportErrorDTO {
+    @JsonProperty("row")
+    private long row;
+
+    @JsonProperty("message")
+    private String message;
+}
@@ -0,0 +1,30 @@
+package library.code.dto.bookDTO;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@Setter
+public class BookImportResultDTO {
+    @JsonProperty("processed_rows")
+    private long processedRows;
+
+    @JsonProperty("imported_rows")
+    private long importedRows;
+
+    @JsonProperty("failed_rows")
+    private long failedRows;
+
+    @JsonProperty("next_offset")
+    private long nextOffset;
+
+    @JsonProperty("completed")
+    private boolean completed;
+
+    @JsonProperty("errors")
+    private List<BookImportErrorDTO> errors = new ArrayList<>();
+}
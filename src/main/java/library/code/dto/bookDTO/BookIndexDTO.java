@@ -0,0 +1,20 @@
+package library.code.dto.bookDTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class BookIndexDTO {
+    private Long id;
+
+    private String bookTitle;
+
+    private String authorFirstName;
+
+    private String authorLastName;
+
+    private String publisherTitle;
+
+    private String directionOfLiterature;
+}
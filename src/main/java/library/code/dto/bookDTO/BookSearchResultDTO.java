@@ -0,0 +1,23 @@
+package library.code.dto.bookDTO;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class BookSearchResultDTO {
+    @JsonProperty("items")
+    private List<BookDTO> items;
+
+    @JsonProperty("total_count")
+    private long totalCount;
+
+    @JsonProperty("next_cursor")
+    private String nextCursor;
+
+    @JsonProperty("facets")
+    private BookFacetsDTO facets;
+}
@@ -0,0 +1,24 @@
+package library.code.dto.cacheDTO;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class CacheStatsDTO {
+    @JsonProperty("size")
+    private int size;
+
+    @JsonProperty("hits")
+    private long hits;
+
+    @JsonProperty("misses")
+    private long misses;
+
+    @JsonProperty("evictions")
+    private long evictions;
+
+    @JsonProperty("hit_rate")
+    private double hitRate;
+}
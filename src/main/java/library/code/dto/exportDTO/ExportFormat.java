@@ -0,0 +1,24 @@
+package library.code.dto.exportDTO;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Arrays;
+
+@Getter
+@RequiredArgsConstructor
+public enum ExportFormat {
+    NDJSON("application/x-ndjson", "ndjson"),
+    CSV("text/csv", "csv");
+
+    private final String contentType;
+    private final String extension;
+
+    public static ExportFormat from(String value) {
+        return Arrays.stream(values())
+                .filter(format -> format.extension.equalsIgnoreCase(value))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unsupported export format: " + value
+                        + ", expected ndjson or csv"));
+    }
+}
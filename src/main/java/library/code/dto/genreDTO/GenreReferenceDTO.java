@@ -0,0 +1,12 @@
+package library.code.dto.genreDTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class GenreReferenceDTO {
+    private final Long id;
+
+    private final String typeOfGenre;
+}
@@ -2,13 +2,16 @@ package library.code.dto.libraryCardBooksDTO;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import library.code.models.NotificationStatusName;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 import java.time.LocalDate;
 
 @Getter
 @Setter
+@NoArgsConstructor
 public class LibraryCardBookDTO {
     private Long id;
 
@@ -32,4 +35,16 @@ public class LibraryCardBookDTO {
 
     @JsonProperty("notification_status")
     private String notificationStatus;
+
+    public LibraryCardBookDTO(Long id, String bookTitle, String libraryCardNumber, LocalDate borrowDate,
+                              LocalDate expectedReturn, LocalDate actualDate,
+                              NotificationStatusName notificationStatus) {
+        this.id = id;
+        this.bookTitle = bookTitle;
+        this.libraryCardNumber = libraryCardNumber;
+        this.borrowDate = borrowDate;
+        this.expectedReturn = expectedReturn;
+        this.actualDate = actualDate;
+        this.notificationStatus = notificationStatus.name();
+    }
 }
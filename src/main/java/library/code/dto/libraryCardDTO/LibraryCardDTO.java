@@ -4,6 +4,7 @@ import com.fasterxml.jackson.annotation.JsonFormat;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import library.code.dto.libraryCardBooksDTO.LibraryCardBookDTO;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 import java.time.LocalDate;
@@ -11,6 +12,7 @@ import java.util.List;
 
 @Getter
 @Setter
+@NoArgsConstructor
 public class LibraryCardDTO {
 
     private Long id;
@@ -29,4 +31,13 @@ public class LibraryCardDTO {
 
     @JsonProperty("borrowed_books")
     private List<LibraryCardBookDTO> borrowedBooks;
+
+    public LibraryCardDTO(Long id, String readerFirstName, String readerSurname, String cardNumber,
+                          LocalDate createdAt) {
+        this.id = id;
+        this.readerFirstName = readerFirstName;
+        this.readerSurname = readerSurname;
+        this.cardNumber = cardNumber;
+        this.createdAt = createdAt;
+    }
 }
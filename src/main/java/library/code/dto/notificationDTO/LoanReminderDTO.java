@@ -0,0 +1,22 @@
+package library.code.dto.notificationDTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+@Getter
+@AllArgsConstructor
+public class LoanReminderDTO {
+    private Long id;
+
+    private String email;
+
+    private String readerFirstName;
+
+    private String bookTitle;
+
+    private LocalDate expectedReturn;
+
+    private Integer lastReminderOffset;
+}
@@ -0,0 +1,12 @@
+package library.code.dto.publisherDTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class PublisherReferenceDTO {
+    private final Long id;
+
+    private final String title;
+}
@@ -3,12 +3,14 @@ package library.code.dto.readerDTO;
 import com.fasterxml.jackson.annotation.JsonFormat;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 import java.time.LocalDate;
 
 @Getter
 @Setter
+@NoArgsConstructor
 public class ReaderDTO {
     private Long id;
 
@@ -37,4 +39,20 @@ public class ReaderDTO {
 
     @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "dd-MM-yyyy")
     private LocalDate updatedAt;
+
+    public ReaderDTO(Long id, String firstName, String lastName, String passportDetails, String libraryCard,
+                     String email, Integer age, String phone, String address, LocalDate createdAt,
+                     LocalDate updatedAt) {
+        this.id = id;
+        this.firstName = firstName;
+        this.lastName = lastName;
+        this.passportDetails = passportDetails;
+        this.libraryCard = libraryCard;
+        this.email = email;
+        this.age = age;
+        this.phone = phone;
+        this.address = address;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
 }
@@ -1,10 +1,14 @@
 package library.code.dto.specificationDTO;
 
+import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.Setter;
+import lombok.ToString;
 
 @Getter
 @Setter
+@ToString
+@EqualsAndHashCode
 public class AuthorParamDTO {
     private String firstNameCont;
     private String lastNameCont;
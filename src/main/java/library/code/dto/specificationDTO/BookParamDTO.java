@@ -1,12 +1,16 @@
 package library.code.dto.specificationDTO;
 
+import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.Setter;
+import lombok.ToString;
 
 import java.util.Set;
 
 @Getter
 @Setter
+@ToString
+@EqualsAndHashCode
 public class BookParamDTO {
     private String bookCont;
 
@@ -18,5 +22,9 @@ public class BookParamDTO {
 
     private Set<String> genreTypes;
 
+    private GenreMatch genreMatch = GenreMatch.ANY;
+
     private String directionOfLiterature;
+
+    private boolean fuzzy;
 }
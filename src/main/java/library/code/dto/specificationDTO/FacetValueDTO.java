@@ -0,0 +1,14 @@
+package library.code.dto.specificationDTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class FacetValueDTO {
+    private Long id;
+
+    private String value;
+
+    private long count;
+}
@@ -0,0 +1,6 @@
+package library.code.dto.specificationDTO;
+
+public enum GenreMatch {
+    ANY,
+    ALL
+}
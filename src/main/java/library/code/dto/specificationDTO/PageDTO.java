@@ -0,0 +1,16 @@
+package library.code.dto.specificationDTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class PageDTO<T> {
+    private List<T> items;
+
+    private long totalCount;
+
+    private String nextCursor;
+}
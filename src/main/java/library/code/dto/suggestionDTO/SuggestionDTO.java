@@ -0,0 +1,14 @@
+package library.code.dto.suggestionDTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class SuggestionDTO {
+    private SuggestionType type;
+
+    private String text;
+
+    private long weight;
+}
@@ -0,0 +1,18 @@
+package library.code.dto.suggestionDTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class SuggestionSourceDTO {
+    private String text;
+
+    private Long weight;
+
+    private Long sources;
+
+    public SuggestionSourceDTO(String text, Long weight) {
+        this(text, weight, 1L);
+    }
+}
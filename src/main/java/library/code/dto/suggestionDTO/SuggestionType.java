@@ -0,0 +1,7 @@
+package library.code.dto.suggestionDTO;
+
+public enum SuggestionType {
+    TITLE,
+    AUTHOR,
+    PUBLISHER
+}
@@ -1,8 +1,13 @@
 package library.code.mapper;
 
+import library.code.component.CatalogProperties;
+import library.code.component.ReferenceCache;
+import library.code.dto.authorDTO.AuthorReferenceDTO;
 import library.code.dto.bookDTO.BookCreateDTO;
 import library.code.dto.bookDTO.BookDTO;
 import library.code.dto.bookDTO.BookUpdateDTO;
+import library.code.dto.genreDTO.GenreReferenceDTO;
+import library.code.dto.publisherDTO.PublisherReferenceDTO;
 import library.code.exception.ResourceNotFoundException;
 import library.code.models.Author;
 import library.code.models.Book;
@@ -11,6 +16,7 @@ import library.code.models.Publisher;
 import library.code.repositories.AuthorRepository;
 import library.code.repositories.GenreRepository;
 import library.code.repositories.PublisherRepository;
+import lombok.extern.slf4j.Slf4j;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.MappingConstants;
@@ -20,7 +26,9 @@ import org.mapstruct.NullValuePropertyMappingStrategy;
 import org.mapstruct.ReportingPolicy;
 import org.springframework.beans.factory.annotation.Autowired;
 
-import java.util.Optional;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -30,6 +38,7 @@ import java.util.stream.Collectors;
         nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE,
         unmappedTargetPolicy = ReportingPolicy.IGNORE
 )
+@Slf4j
 public abstract class BookMapper {
 
     @Autowired
@@ -38,6 +47,10 @@ public abstract class BookMapper {
     private PublisherRepository publisherRepository;
     @Autowired
     private GenreRepository genreRepository;
+    @Autowired
+    private ReferenceCache referenceCache;
+    @Autowired
+    private CatalogProperties catalogProperties;
 
     @Mapping(target = "author", source = "authorId", qualifiedByName = "findAuthor")
     @Mapping(target = "publisher", source = "publisherId", qualifiedByName = "findPublisher")
@@ -55,25 +68,78 @@ public abstract class BookMapper {
     @Mapping(target = "genres", source = "genreTypes", qualifiedByName = "typeGenreToModel")
     public abstract void update(BookUpdateDTO updateDTO, @MappingTarget Book book);
 
+    public abstract Author toAuthor(AuthorReferenceDTO reference);
+
+    public abstract Publisher toPublisher(PublisherReferenceDTO reference);
+
+    public abstract Genre toGenre(GenreReferenceDTO reference);
+
     @Named("findAuthor")
     public Author findAuthorById(Long authorId) {
-        return authorRepository.findById(authorId)
+        return referenceCache.get(Author.class, authorId, () -> authorRepository.findReferenceById(authorId))
+                .map(this::toAuthor)
                 .orElseThrow(() -> new ResourceNotFoundException("Author with id: " + authorId + " not found"));
     }
 
     @Named("findPublisher")
     public Publisher findPublisherById(Long publisherId) {
-        return publisherRepository.findById(publisherId)
+        return referenceCache.get(Publisher.class, publisherId,
+                        () -> publisherRepository.findReferenceById(publisherId))
+                .map(this::toPublisher)
                 .orElseThrow(() -> new ResourceNotFoundException("Publisher with id: " + publisherId + " not found"));
     }
 
+    public void verifyReferences(Book book) {
+        if (book.getAuthor() != null) {
+            Long authorId = book.getAuthor().getId();
+            referenceCache.evict(Author.class, authorId);
+            if (!authorRepository.existsById(authorId)) {
+                throw new ResourceNotFoundException("Author with id: " + authorId + " not found");
+            }
+        }
+        if (book.getPublisher() != null) {
+            Long publisherId = book.getPublisher().getId();
+            referenceCache.evict(Publisher.class, publisherId);
+            if (!publisherRepository.existsById(publisherId)) {
+                throw new ResourceNotFoundException("Publisher with id: " + publisherId + " not found");
+            }
+        }
+        if (book.getGenres() != null && !book.getGenres().isEmpty()) {
+            var genreIds = book.getGenres().stream().map(Genre::getId).collect(Collectors.toSet());
+            var existing = genreRepository.findExistingIds(genreIds);
+            if (existing.size() < genreIds.size()) {
+                referenceCache.evictAll(Genre.class);
+                var unknown = book.getGenres().stream()
+                        .filter(genre -> !existing.contains(genre.getId()))
+                        .map(Genre::getTypeOfGenre)
+                        .sorted()
+                        .collect(Collectors.joining(", "));
+                throw new ResourceNotFoundException("Genres not found: " + unknown);
+            }
+        }
+    }
+
     @Named("typeGenreToModel")
     public Set<Genre> performTypeGenreToModel(Set<String> genreTypes) {
-        return genreTypes.stream()
-                .map(genreType -> genreRepository.findByTypeOfGenre(genreType))
-                .filter(Optional::isPresent)
-                .map(Optional::get)
-                .collect(Collectors.toSet());
+        Map<String, Genre> loadedGenres = new HashMap<>();
+        var references = referenceCache.getAllByNaturalId(Genre.class, "typeOfGenre", genreTypes, missing -> {
+            loadedGenres.putAll(genreRepository.resolveByTypeOfGenre(missing,
+                    catalogProperties.isCreateMissingGenres()));
+            return loadedGenres.values().stream()
+                    .collect(Collectors.toMap(Genre::getTypeOfGenre,
+                            genre -> new GenreReferenceDTO(genre.getId(), genre.getTypeOfGenre())));
+        });
+        if (references.size() < genreTypes.size()) {
+            var unknown = genreTypes.stream()
+                    .filter(genreType -> !references.containsKey(genreType))
+                    .sorted()
+                    .collect(Collectors.joining(", "));
+            throw new ResourceNotFoundException("Genres not found: " + unknown);
+        }
+        return references.entrySet().stream()
+                .map(entry -> loadedGenres.containsKey(entry.getKey())
+                        ? loadedGenres.get(entry.getKey()) : toGenre(entry.getValue()))
+                .collect(Collectors.toCollection(HashSet::new));
     }
 
     @Named("modelGenresToTitleOfTypes")
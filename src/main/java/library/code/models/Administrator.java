@@ -9,6 +9,7 @@ import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.OneToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import jakarta.validation.constraints.Pattern;
 import lombok.EqualsAndHashCode;
@@ -30,7 +31,9 @@ import java.time.LocalDate;
 @EqualsAndHashCode
 public class Administrator {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "administrators_seq")
+    @SequenceGenerator(name = "administrators_seq", sequenceName = "administrators_seq",
+            allocationSize = BaseEntity.ID_ALLOCATION_SIZE)
     private Long id;
 
     @Column(name = "job_title", unique = true)
@@ -1,4 +1,5 @@
 package library.code.models;
 
 public interface BaseEntity {
+    int ID_ALLOCATION_SIZE = 50;
 }
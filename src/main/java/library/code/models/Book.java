@@ -3,18 +3,24 @@ package library.code.models;
 import com.fasterxml.jackson.annotation.JsonFormat;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.JoinTable;
 import jakarta.persistence.ManyToMany;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.PastOrPresent;
 import jakarta.validation.constraints.Pattern;
+import library.code.component.BookSearchIndexListener;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.Setter;
@@ -28,11 +34,23 @@ import java.util.Set;
 @Setter
 @ToString(includeFieldNames = true, onlyExplicitlyIncluded = true)
 @Entity
-@Table(name = "books")
+@NamedEntityGraph(name = Book.DETAILS_GRAPH, attributeNodes = {
+        @NamedAttributeNode("author"),
+        @NamedAttributeNode("publisher"),
+        @NamedAttributeNode("genres")
+})
+@Table(name = "books", indexes = {
+        @Index(name = "idx_books_title_id", columnList = "book_title, id")
+})
 @EqualsAndHashCode(onlyExplicitlyIncluded = true)
+@EntityListeners(BookSearchIndexListener.class)
 public class Book implements BaseEntity {
+    public static final String DETAILS_GRAPH = "Book.details";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "books_seq")
+    @SequenceGenerator(name = "books_seq", sequenceName = "books_seq",
+            allocationSize = BaseEntity.ID_ALLOCATION_SIZE)
     @EqualsAndHashCode.Include
     private Long id;
 
@@ -12,6 +12,7 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.OneToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import jakarta.validation.constraints.Pattern;
 import lombok.EqualsAndHashCode;
@@ -34,7 +35,9 @@ import java.util.List;
 @EntityListeners(AuditingEntityListener.class)
 public class LibraryCard implements BaseEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "library_cards_seq")
+    @SequenceGenerator(name = "library_cards_seq", sequenceName = "library_cards_seq",
+            allocationSize = BaseEntity.ID_ALLOCATION_SIZE)
     @EqualsAndHashCode.Include
     private Long id;
 
@@ -7,8 +7,10 @@ import jakarta.persistence.EntityListeners;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import jakarta.validation.constraints.Future;
 import jakarta.validation.constraints.PastOrPresent;
@@ -21,13 +23,18 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 import java.time.LocalDate;
 
 @Entity
-@Table(name = "library_card_books")
+@Table(name = "library_card_books", indexes = {
+        @Index(name = "idx_library_card_books_expected_return", columnList = "expected_return_date, id"),
+        @Index(name = "idx_library_card_books_library_card", columnList = "library_card_id, id")
+})
 @Getter
 @Setter
 @EntityListeners(AuditingEntityListener.class)
 public class LibraryCardBooks implements BaseEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "library_card_books_seq")
+    @SequenceGenerator(name = "library_card_books_seq", sequenceName = "library_card_books_seq",
+            allocationSize = BaseEntity.ID_ALLOCATION_SIZE)
     private Long id;
 
     @ManyToOne
@@ -59,4 +66,7 @@ public class LibraryCardBooks implements BaseEntity {
     @ManyToOne
     @JoinColumn(name = "notification_status_id", nullable = false)
     private NotificationStatus notificationStatus;
+
+    @Column(name = "last_reminder_offset")
+    private Integer lastReminderOffset;
 }
@@ -0,0 +1,5 @@
+package library.code.models;
+
+public enum NotificationOutboxStatus {
+    PENDING, SENT, DEAD
+}
@@ -7,6 +7,7 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.Getter;
 import lombok.Setter;
@@ -17,7 +18,9 @@ import lombok.Setter;
 @Setter
 public class NotificationStatus {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "notification_statuses_seq")
+    @SequenceGenerator(name = "notification_statuses_seq", sequenceName = "notification_statuses_seq",
+            allocationSize = BaseEntity.ID_ALLOCATION_SIZE)
     private Long id;
 
     @Enumerated(EnumType.STRING)
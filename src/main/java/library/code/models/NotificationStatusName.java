@@ -1,5 +1,5 @@
 package library.code.models;
 
 public enum NotificationStatusName {
-    PENDING, SUCCESS, FAILED
+    PENDING, QUEUED, SUCCESS, FAILED
 }
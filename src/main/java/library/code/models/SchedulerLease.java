@@ -0,0 +1,29 @@
+package library.code.models;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "scheduler_leases")
+@Getter
+@Setter
+public class SchedulerLease implements BaseEntity {
+    @Id
+    @Column(name = "lease_name", length = 64)
+    private String name;
+
+    @Column(name = "owner", nullable = false)
+    private String owner;
+
+    @Column(name = "locked_until", nullable = false)
+    private LocalDateTime lockedUntil;
+
+    @Column(name = "heartbeat_at", nullable = false)
+    private LocalDateTime heartbeatAt;
+}
@@ -1,10 +1,31 @@
 package library.code.repositories;
 
+import library.code.dto.authorDTO.AuthorReferenceDTO;
+import library.code.dto.suggestionDTO.SuggestionSourceDTO;
 import library.code.models.Author;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
 @Repository
 public interface AuthorRepository extends JpaRepository<Author, Long>, JpaSpecificationExecutor<Author> {
+    @Query("select new library.code.dto.suggestionDTO.SuggestionSourceDTO("
+            + "concat(a.firstName, ' ', a.lastName), count(b.id)) "
+            + "from Author a left join a.books b "
+            + "group by a.id, a.firstName, a.lastName")
+    List<SuggestionSourceDTO> findAuthorSuggestions();
+
+    @Query("select a.id from Author a where a.id in :ids")
+    Set<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    @Query("select new library.code.dto.authorDTO.AuthorReferenceDTO(a.id, a.firstName, a.lastName) "
+            + "from Author a where a.id = :id")
+    Optional<AuthorReferenceDTO> findReferenceById(@Param("id") Long id);
 }
@@ -1,13 +1,53 @@
 package library.code.repositories;
 
+import library.code.dto.bookDTO.BookGenreIndexDTO;
+import library.code.dto.bookDTO.BookIndexDTO;
+import library.code.dto.suggestionDTO.SuggestionSourceDTO;
 import library.code.models.Book;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+
 @Repository
 public interface BookRepository extends JpaRepository<Book, Long>, JpaSpecificationExecutor<Book> {
+    String INDEX_ENTRY_SELECT = "select new library.code.dto.bookDTO.BookIndexDTO("
+            + "b.id, b.bookTitle, a.firstName, a.lastName, p.title, b.directionOfLiterature) "
+            + "from Book b join b.author a join b.publisher p ";
+
     Optional<Book> findByBookTitle(String bookTitle);
     Optional<Book> findByIsbn(String isbn);
+
+    @Query("select b.isbn from Book b where b.isbn in :isbns")
+    Set<String> findExistingIsbns(@Param("isbns") Collection<String> isbns);
+
+    @EntityGraph(Book.DETAILS_GRAPH)
+    Optional<Book> findWithDetailsById(Long id);
+
+    @Query(INDEX_ENTRY_SELECT + "where b.id > :lastId order by b.id")
+    List<BookIndexDTO> findIndexEntries(@Param("lastId") Long lastId, Pageable pageable);
+
+    @Query("select new library.code.dto.bookDTO.BookGenreIndexDTO(b.id, g.id, g.typeOfGenre) "
+            + "from Book b join b.genres g where b.id in :bookIds")
+    List<BookGenreIndexDTO> findGenreEntries(@Param("bookIds") Collection<Long> bookIds);
+
+    @Query(INDEX_ENTRY_SELECT + "where a.id = :authorId")
+    List<BookIndexDTO> findIndexEntriesByAuthorId(@Param("authorId") Long authorId);
+
+    @Query(INDEX_ENTRY_SELECT + "where p.id = :publisherId")
+    List<BookIndexDTO> findIndexEntriesByPublisherId(@Param("publisherId") Long publisherId);
+
+    @Query("select new library.code.dto.suggestionDTO.SuggestionSourceDTO(b.bookTitle, count(lcb.id), "
+            + "count(distinct b.id)) "
+            + "from Book b left join LibraryCardBooks lcb on lcb.book = b "
+            + "group by b.bookTitle")
+    List<SuggestionSourceDTO> findTitleSuggestions();
 }
@@ -2,10 +2,40 @@ package library.code.repositories;
 
 import library.code.models.Genre;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+
 @Repository
 public interface GenreRepository extends JpaRepository<Genre, Long> {
     Optional<Genre> findByTypeOfGenre(String typeOfGenre);
+
+    List<Genre> findByTypeOfGenreIn(Collection<String> typeOfGenres);
+
+    @Query("select g.id from Genre g where g.id in :ids")
+    Set<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    default Map<String, Genre> resolveByTypeOfGenre(Collection<String> typeOfGenres, boolean createMissing) {
+        Map<String, Genre> genres = new HashMap<>();
+        findByTypeOfGenreIn(typeOfGenres).forEach(genre -> genres.put(genre.getTypeOfGenre(), genre));
+        if (createMissing) {
+            var missing = typeOfGenres.stream()
+                    .filter(typeOfGenre -> !genres.containsKey(typeOfGenre))
+                    .map(typeOfGenre -> {
+                        var genre = new Genre();
+                        genre.setTypeOfGenre(typeOfGenre);
+                        return genre;
+                    })
+                    .toList();
+            saveAll(missing).forEach(genre -> genres.put(genre.getTypeOfGenre(), genre));
+        }
+        return genres;
+    }
 }
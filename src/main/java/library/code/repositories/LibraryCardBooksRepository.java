@@ -1,15 +1,51 @@
 package library.code.repositories;
 
+import library.code.dto.notificationDTO.LoanReminderDTO;
 import library.code.models.LibraryCardBooks;
+import library.code.models.NotificationStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface LibraryCardBooksRepository extends JpaRepository<LibraryCardBooks, Long> {
     List<LibraryCardBooks> findByLibraryCardId(Long id);
 
-    List<LibraryCardBooks> findByExpectedReturn(LocalDate localDate);
+    boolean existsByIdAndLibraryCardReaderId(Long id, Long readerId);
+
+    @Query("select new library.code.dto.notificationDTO.LoanReminderDTO("
+            + "lcb.id, u.email, r.firstName, b.bookTitle, lcb.expectedReturn, lcb.lastReminderOffset) "
+            + "from LibraryCardBooks lcb "
+            + "join lcb.book b "
+            + "join lcb.libraryCard lc "
+            + "join lc.reader r "
+            + "join r.user u "
+            + "where lcb.expectedReturn between :from and :to "
+            + "and (lcb.expectedReturn > :lastExpectedReturn "
+            + "or (lcb.expectedReturn = :lastExpectedReturn and lcb.id > :lastId)) "
+            + "and lcb.actualDate is null "
+            + "order by lcb.expectedReturn, lcb.id")
+    List<LoanReminderDTO> findRemindersInWindow(@Param("from") LocalDate from,
+                                                @Param("to") LocalDate to,
+                                                @Param("lastExpectedReturn") LocalDate lastExpectedReturn,
+                                                @Param("lastId") Long lastId,
+                                                Pageable pageable);
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update LibraryCardBooks lcb set lcb.notificationStatus = :status where lcb.id in :ids")
+    int updateNotificationStatus(@Param("ids") Collection<Long> ids, @Param("status") NotificationStatus status);
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update LibraryCardBooks lcb set lcb.lastReminderOffset = :offset where lcb.id in :ids")
+    int updateLastReminderOffset(@Param("ids") Collection<Long> ids, @Param("offset") Integer offset);
 }
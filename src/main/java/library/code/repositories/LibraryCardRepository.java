@@ -1,12 +1,27 @@
 package library.code.repositories;
 
+import library.code.dto.libraryCardBooksDTO.LibraryCardBookDTO;
+import library.code.dto.libraryCardDTO.LibraryCardDTO;
 import library.code.models.LibraryCard;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 @Repository
 public interface LibraryCardRepository extends JpaRepository<LibraryCard, Long> {
+    @Query("select new library.code.dto.libraryCardDTO.LibraryCardDTO("
+            + "c.id, r.firstName, r.lastName, c.cardNumber, c.createdAt) "
+            + "from LibraryCard c join c.reader r order by c.id")
+    List<LibraryCardDTO> findAllCardViews();
+
+    @Query("select new library.code.dto.libraryCardBooksDTO.LibraryCardBookDTO("
+            + "lcb.id, b.bookTitle, c.cardNumber, lcb.borrowDate, lcb.expectedReturn, lcb.actualDate, s.statusName) "
+            + "from LibraryCardBooks lcb join lcb.book b join lcb.libraryCard c join lcb.notificationStatus s "
+            + "order by lcb.id")
+    List<LibraryCardBookDTO> findAllBorrowedBookViews();
+
     Optional<LibraryCard> findByCardNumber(String cardNumber);
     boolean existsByCardNumber(String cardNumber);
     boolean existsByIdAndReaderId(Long id, Long readerId);
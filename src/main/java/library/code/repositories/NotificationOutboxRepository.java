@@ -0,0 +1,30 @@
+package library.code.repositories;
+
+import library.code.models.NotificationOutbox;
+import library.code.models.NotificationOutboxStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface NotificationOutboxRepository extends JpaRepository<NotificationOutbox, Long> {
+    List<NotificationOutbox> findByStatusAndNextAttemptAtLessThanEqualOrderByIdAsc(NotificationOutboxStatus status,
+                                                                                   LocalDateTime now,
+                                                                                   Pageable pageable);
+
+    List<NotificationOutbox> findByLibraryCardBookId(Long libraryCardBookId);
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update NotificationOutbox o set o.status = :status, o.attempts = o.attempts + 1, o.lastError = null "
+            + "where o.id in :ids")
+    int updateStatus(@Param("ids") Collection<Long> ids, @Param("status") NotificationOutboxStatus status);
+}
@@ -1,9 +1,29 @@
 package library.code.repositories;
 
+import library.code.dto.publisherDTO.PublisherReferenceDTO;
+import library.code.dto.suggestionDTO.SuggestionSourceDTO;
 import library.code.models.Publisher;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
 @Repository
 public interface PublisherRepository extends JpaRepository<Publisher, Long> {
+    @Query("select new library.code.dto.suggestionDTO.SuggestionSourceDTO(p.title, count(b.id)) "
+            + "from Publisher p left join p.books b "
+            + "group by p.id, p.title")
+    List<SuggestionSourceDTO> findPublisherSuggestions();
+
+    @Query("select p.id from Publisher p where p.id in :ids")
+    Set<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    @Query("select new library.code.dto.publisherDTO.PublisherReferenceDTO(p.id, p.title) "
+            + "from Publisher p where p.id = :id")
+    Optional<PublisherReferenceDTO> findReferenceById(@Param("id") Long id);
 }
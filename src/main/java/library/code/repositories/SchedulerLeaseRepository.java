@@ -0,0 +1,40 @@
+package library.code.repositories;
+
+import library.code.models.SchedulerLease;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface SchedulerLeaseRepository extends JpaRepository<SchedulerLease, String> {
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update SchedulerLease sl set sl.owner = :owner, sl.lockedUntil = :lockedUntil, sl.heartbeatAt = :now "
+            + "where sl.name = :name and (sl.lockedUntil < :now or sl.owner = :owner)")
+    int acquire(@Param("name") String name, @Param("owner") String owner,
+                @Param("lockedUntil") LocalDateTime lockedUntil, @Param("now") LocalDateTime now);
+
+    @Transactional
+    @Modifying
+    @Query(value = "insert into scheduler_leases (lease_name, owner, locked_until, heartbeat_at) "
+            + "values (:name, :owner, :lockedUntil, :now)", nativeQuery = true)
+    int create(@Param("name") String name, @Param("owner") String owner,
+               @Param("lockedUntil") LocalDateTime lockedUntil, @Param("now") LocalDateTime now);
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update SchedulerLease sl set sl.lockedUntil = :lockedUntil, sl.heartbeatAt = :now "
+            + "where sl.name = :name and sl.owner = :owner")
+    int extend(@Param("name") String name, @Param("owner") String owner,
+               @Param("lockedUntil") LocalDateTime lockedUntil, @Param("now") LocalDateTime now);
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update SchedulerLease sl set sl.lockedUntil = :now where sl.name = :name and sl.owner = :owner")
+    int release(@Param("name") String name, @Param("owner") String owner, @Param("now") LocalDateTime now);
+}
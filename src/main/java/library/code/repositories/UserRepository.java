@@ -2,6 +2,8 @@ package library.code.repositories;
 
 import library.code.models.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -10,4 +12,7 @@ import java.util.Optional;
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
     boolean existsByEmail(String email);
+
+    @Query("select u.reader.id from User u where u.email = :email")
+    Optional<Long> findReaderIdByEmail(@Param("email") String email);
 }
@@ -1,14 +1,21 @@
 package library.code.service;
 
+import library.code.component.BookSearchIndex;
+import library.code.component.CountCache;
+import library.code.component.ReferenceCache;
+import library.code.component.SuggestionIndex;
 import library.code.dto.authorDTO.AuthorCreateDTO;
 import library.code.dto.authorDTO.AuthorDTO;
 import library.code.dto.authorDTO.AuthorUpdateDTO;
 import library.code.dto.specificationDTO.AuthorParamDTO;
+import library.code.dto.specificationDTO.PageDTO;
+import library.code.dto.suggestionDTO.SuggestionType;
 import library.code.exception.ResourceNotFoundException;
 import library.code.mapper.AuthorMapper;
 import library.code.models.Author;
 import library.code.repositories.AuthorRepository;
 import library.code.specification.AuthorSpecification;
+import library.code.specification.SpecificationPager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.PageRequest;
@@ -17,7 +24,6 @@ import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 
-import java.util.List;
 import java.util.stream.Collectors;
 
 @Service
@@ -27,8 +33,13 @@ public class AuthorService {
     private final AuthorRepository authorRepository;
     private final AuthorMapper authorMapper;
     private final AuthorSpecification authorSpecification;
+    private final SpecificationPager specificationPager;
+    private final CountCache countCache;
+    private final BookSearchIndex bookSearchIndex;
+    private final ReferenceCache referenceCache;
+    private final SuggestionIndex suggestionIndex;
 
-    public List<AuthorDTO> getAllAuthors(AuthorParamDTO params, int page, String sort) {
+    public PageDTO<AuthorDTO> getAllAuthors(AuthorParamDTO params, int page, String sort) {
         log.info("Fetching authors with parameters: {}, page: {}, sort: {}", params, page, sort);
 
         String[] sortParams = sort.split(", ");
@@ -42,12 +53,14 @@ public class AuthorService {
 
         Specification<Author> spec = authorSpecification.build(params, sortOrder);
         Pageable pageable = PageRequest.of(page - 1, 10, sortOrder);
-        var authors = authorRepository.findAll(spec, pageable).stream()
+        var authors = specificationPager.findPage(Author.class, spec, pageable).stream()
                 .map(authorMapper::map)
                 .collect(Collectors.toList());
+        long totalCount = countCache.get(Author.class, params,
+                () -> authorRepository.count(authorSpecification.build(params, null)));
 
-        log.info("Retrieved {} authors", authors.size());
-        return authors;
+        log.info("Retrieved {} of {} authors", authors.size(), totalCount);
+        return new PageDTO<>(authors, totalCount, null);
     }
 
     public AuthorDTO getAuthor(Long id) {
@@ -68,6 +81,8 @@ public class AuthorService {
 
         var author = authorMapper.map(createDTO);
         authorRepository.save(author);
+        suggestionIndex.add(SuggestionType.AUTHOR, fullName(author), 0);
+        countCache.evict(Author.class);
 
         log.info("Successfully created author with ID: {}", author.getId());
         return authorMapper.map(author);
@@ -82,8 +97,16 @@ public class AuthorService {
                     return new ResourceNotFoundException("Author with ID: " + id + " not found");
                 });
 
+        String oldName = fullName(author);
         authorMapper.update(updateDTO, author);
         authorRepository.save(author);
+        countCache.evict(Author.class);
+        referenceCache.evict(Author.class, id);
+        bookSearchIndex.reindexAuthor(id);
+        if (!oldName.equals(fullName(author))) {
+            suggestionIndex.remove(SuggestionType.AUTHOR, oldName, 0);
+            suggestionIndex.add(SuggestionType.AUTHOR, fullName(author), 0);
+        }
 
         log.info("Successfully updated author with ID: {}", id);
         return authorMapper.map(author);
@@ -91,8 +114,17 @@ public class AuthorService {
 
     public void deleteAuthor(Long id) {
         log.info("Attempting to delete author with ID: {}", id);
-        authorRepository.deleteById(id);
+        authorRepository.findById(id).ifPresent(author -> {
+            authorRepository.delete(author);
+            suggestionIndex.remove(SuggestionType.AUTHOR, fullName(author), 0);
+        });
+        countCache.evict(Author.class);
+        referenceCache.evict(Author.class, id);
         log.info("Successfully deleted author with ID: {}", id);
     }
+
+    private String fullName(Author author) {
+        return author.getFirstName() + " " + author.getLastName();
+    }
 }
 
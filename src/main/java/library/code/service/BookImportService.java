@@ -0,0 +1,385 @@
+package library.code.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import library.code.component.BookSearchIndex;
+import library.code.component.CatalogProperties;
+import library.code.component.CountCache;
+import library.code.component.SequenceIdAllocator;
+import library.code.component.SuggestionIndex;
+import library.code.dto.bookDTO.BookCreateDTO;
+import library.code.dto.bookDTO.BookImportErrorDTO;
+import library.code.dto.bookDTO.BookImportResultDTO;
+import library.code.models.Book;
+import library.code.models.Genre;
+import library.code.repositories.AuthorRepository;
+import library.code.repositories.BookRepository;
+import library.code.repositories.GenreRepository;
+import library.code.repositories.PublisherRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BookImportService {
+    private static final MediaType TEXT_CSV = MediaType.valueOf("text/csv");
+    private static final String INSERT_BOOK = "insert into books (id, book_title, author_id, publisher_id, "
+            + "published_date, isbn, direction_of_literature) values (?, ?, ?, ?, ?, ?, ?)";
+    private static final String BOOKS_SEQUENCE = "books_seq";
+    private static final String INSERT_BOOK_GENRE = "insert into book_genre (book_id, genre_id) values (?, ?)";
+    private static final String GENRE_TYPES_COLUMN = "genre_types";
+    private static final Pattern GENRE_SEPARATOR = Pattern.compile("\\|");
+    private static final Pattern ISBN = Pattern.compile("\\d{10,13}");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final BookRepository bookRepository;
+    private final AuthorRepository authorRepository;
+    private final PublisherRepository publisherRepository;
+    private final GenreRepository genreRepository;
+    private final CatalogProperties catalogProperties;
+    private final CountCache countCache;
+    private final BookSearchIndex bookSearchIndex;
+    private final SuggestionIndex suggestionIndex;
+    private final SequenceIdAllocator sequenceIdAllocator;
+
+    public BookImportResultDTO importBooks(InputStream input, String contentType, long offset) throws IOException {
+        if (offset < 0) {
+            log.error("Invalid import offset: {}", offset);
+            throw new IllegalArgumentException("Offset must not be negative");
+        }
+        boolean csv = contentType != null && MediaType.parseMediaType(contentType).isCompatibleWith(TEXT_CSV);
+        log.info("Starting {} book import from offset {}", csv ? "CSV" : "NDJSON", offset);
+
+        var result = new BookImportResultDTO();
+        result.setNextOffset(offset);
+        try (var reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+            List<String> header = csv ? readHeader(reader) : null;
+            if (csv && header == null) {
+                result.setCompleted(true);
+                return result;
+            }
+
+            List<ImportRow> batch = new ArrayList<>();
+            long row = 0;
+            String line;
+            while ((line = csv ? readCsvRecord(reader) : reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                row++;
+                if (row <= offset) {
+                    continue;
+                }
+
+                result.setProcessedRows(result.getProcessedRows() + 1);
+                try {
+                    batch.add(new ImportRow(row, csv ? parseCsv(line, header) : parseJson(line)));
+                } catch (IllegalArgumentException | JsonProcessingException ex) {
+                    reportError(result, new BookImportErrorDTO(row, "Malformed row: " + ex.getMessage()));
+                }
+
+                if (batch.size() >= catalogProperties.getImportBatchSize()) {
+                    if (!flush(batch, result)) {
+                        return result;
+                    }
+                    batch.clear();
+                    result.setNextOffset(row);
+                }
+            }
+
+            if (!flush(batch, result)) {
+                return result;
+            }
+            result.setNextOffset(row);
+            result.setCompleted(true);
+            return result;
+        } finally {
+            afterImport(result);
+        }
+    }
+
+    private boolean flush(List<ImportRow> batch, BookImportResultDTO result) {
+        if (batch.isEmpty()) {
+            return true;
+        }
+
+        List<BookImportErrorDTO> errors = new ArrayList<>();
+        try {
+            Integer imported = transactionTemplate.execute(status -> insertBatch(batch, errors));
+            result.setImportedRows(result.getImportedRows() + (imported != null ? imported : 0));
+            errors.forEach(error -> reportError(result, error));
+            log.info("Imported batch of {} rows, {} rejected, up to row {}", batch.size(), errors.size(),
+                    batch.get(batch.size() - 1).row());
+            return true;
+        } catch (DataAccessException ex) {
+            log.error("Failed to import batch starting at row {}: {}", batch.get(0).row(), ex.getMessage(), ex);
+            result.setProcessedRows(result.getProcessedRows() - batch.size());
+            result.getErrors().add(new BookImportErrorDTO(batch.get(0).row(),
+                    "Batch failed, resume from next_offset: " + ex.getMostSpecificCause().getMessage()));
+            return false;
+        }
+    }
+
+    private int insertBatch(List<ImportRow> batch, List<BookImportErrorDTO> errors) {
+        var validated = validate(batch, errors);
+        if (validated.isEmpty()) {
+            return 0;
+        }
+
+        Set<String> genreTypes = validated.stream()
+                .flatMap(row -> row.book().getGenreTypes().stream())
+                .collect(Collectors.toSet());
+        Map<String, Genre> genres = genreTypes.isEmpty() ? Map.of()
+                : genreRepository.resolveByTypeOfGenre(genreTypes, catalogProperties.isCreateMissingGenres());
+        var rows = withKnownGenres(validated, genres, errors);
+        if (rows.isEmpty()) {
+            return 0;
+        }
+
+        List<Long> bookIds = sequenceIdAllocator.allocate(BOOKS_SEQUENCE, rows.size());
+        jdbcTemplate.batchUpdate(INSERT_BOOK, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement statement, int i) throws SQLException {
+                var book = rows.get(i).book();
+                statement.setLong(1, bookIds.get(i));
+                statement.setString(2, book.getBookTitle());
+                statement.setLong(3, book.getAuthorId());
+                statement.setLong(4, book.getPublisherId());
+                statement.setDate(5, book.getPublishedDate() != null ? Date.valueOf(book.getPublishedDate()) : null);
+                statement.setString(6, book.getIsbn());
+                statement.setString(7, book.getDirectionOfLiterature());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return rows.size();
+            }
+        });
+
+        List<Object[]> bookGenres = new ArrayList<>();
+        for (int i = 0; i < rows.size(); i++) {
+            long bookId = bookIds.get(i);
+            rows.get(i).book().getGenreTypes().stream()
+                    .map(genres::get)
+                    .filter(Objects::nonNull)
+                    .map(Genre::getId)
+                    .distinct()
+                    .forEach(genreId -> bookGenres.add(new Object[] {bookId, genreId}));
+        }
+        if (!bookGenres.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_BOOK_GENRE, bookGenres);
+        }
+        return rows.size();
+    }
+
+    private List<ImportRow> validate(List<ImportRow> batch, List<BookImportErrorDTO> errors) {
+        List<ImportRow> rows = new ArrayList<>();
+        for (var row : batch) {
+            String error = validationError(row.book());
+            if (error != null) {
+                errors.add(new BookImportErrorDTO(row.row(), error));
+            } else {
+                rows.add(row);
+            }
+        }
+        if (rows.isEmpty()) {
+            return rows;
+        }
+
+        Set<Long> authorIds = authorRepository.findExistingIds(rows.stream()
+                .map(row -> row.book().getAuthorId()).collect(Collectors.toSet()));
+        Set<Long> publisherIds = publisherRepository.findExistingIds(rows.stream()
+                .map(row -> row.book().getPublisherId()).collect(Collectors.toSet()));
+        Set<String> takenIsbns = new HashSet<>(bookRepository.findExistingIsbns(rows.stream()
+                .map(row -> row.book().getIsbn()).collect(Collectors.toSet())));
+
+        List<ImportRow> accepted = new ArrayList<>();
+        for (var row : rows) {
+            var book = row.book();
+            if (!authorIds.contains(book.getAuthorId())) {
+                errors.add(new BookImportErrorDTO(row.row(), "Author with id: " + book.getAuthorId() + " not found"));
+            } else if (!publisherIds.contains(book.getPublisherId())) {
+                errors.add(new BookImportErrorDTO(row.row(),
+                        "Publisher with id: " + book.getPublisherId() + " not found"));
+            } else if (!takenIsbns.add(book.getIsbn())) {
+                errors.add(new BookImportErrorDTO(row.row(), "Book with ISBN: " + book.getIsbn() + " already exists"));
+            } else {
+                accepted.add(row);
+            }
+        }
+        return accepted;
+    }
+
+    private List<ImportRow> withKnownGenres(List<ImportRow> rows, Map<String, Genre> genres,
+                                            List<BookImportErrorDTO> errors) {
+        List<ImportRow> accepted = new ArrayList<>();
+        for (var row : rows) {
+            var unknown = row.book().getGenreTypes().stream()
+                    .filter(genreType -> !genres.containsKey(genreType))
+                    .sorted()
+                    .collect(Collectors.joining(", "));
+            if (unknown.isEmpty()) {
+                accepted.add(row);
+            } else {
+                errors.add(new BookImportErrorDTO(row.row(), "Genres not found: " + unknown));
+            }
+        }
+        return accepted;
+    }
+
+    private String validationError(BookCreateDTO book) {
+        Set<ConstraintViolation<BookCreateDTO>> violations = validator.validate(book);
+        if (!violations.isEmpty()) {
+            return violations.stream()
+                    .map(violation -> violation.getPropertyPath() + " " + violation.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining(", "));
+        }
+        if (book.getBookTitle().isBlank()) {
+            return "bookTitle must not be blank";
+        }
+        if (!ISBN.matcher(book.getIsbn()).matches()) {
+            return "ISBN must contain 10 to 13 digits";
+        }
+        if (book.getPublishedDate() != null && book.getPublishedDate().isAfter(LocalDate.now())) {
+            return "publishedDate must not be in the future";
+        }
+        return null;
+    }
+
+    private void reportError(BookImportResultDTO result, BookImportErrorDTO error) {
+        result.setFailedRows(result.getFailedRows() + 1);
+        if (result.getErrors().size() < catalogProperties.getImportMaxReportedErrors()) {
+            result.getErrors().add(error);
+        }
+    }
+
+    private void afterImport(BookImportResultDTO result) {
+        log.info("Book import finished: {} processed, {} imported, {} failed, next offset {}",
+                result.getProcessedRows(), result.getImportedRows(), result.getFailedRows(), result.getNextOffset());
+        if (result.getImportedRows() > 0) {
+            countCache.evict(Book.class);
+            bookSearchIndex.rebuild();
+            suggestionIndex.rebuild();
+        }
+    }
+
+    private List<String> readHeader(BufferedReader reader) throws IOException {
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (!line.isBlank()) {
+                return parseCsvLine(line.replace("\uFEFF", "")).stream()
+                        .map(String::trim)
+                        .toList();
+            }
+        }
+        return null;
+    }
+
+    private BookCreateDTO parseJson(String line) throws JsonProcessingException {
+        return objectMapper.readValue(line, BookCreateDTO.class);
+    }
+
+    private BookCreateDTO parseCsv(String line, List<String> header) {
+        var values = parseCsvLine(line);
+        if (values.size() != header.size()) {
+            throw new IllegalArgumentException("expected " + header.size() + " columns but found " + values.size());
+        }
+
+        Map<String, Object> fields = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            String value = values.get(i).trim();
+            if (value.isEmpty()) {
+                continue;
+            }
+            fields.put(header.get(i), header.get(i).equals(GENRE_TYPES_COLUMN)
+                    ? Arrays.stream(GENRE_SEPARATOR.split(value))
+                            .map(String::trim)
+                            .filter(genreType -> !genreType.isEmpty())
+                            .collect(Collectors.toCollection(LinkedHashSet::new))
+                    : value);
+        }
+        return objectMapper.convertValue(fields, BookCreateDTO.class);
+    }
+
+    private static String readCsvRecord(BufferedReader reader) throws IOException {
+        String line = reader.readLine();
+        if (line == null) {
+            return null;
+        }
+        StringBuilder record = new StringBuilder(line);
+        long quotes = line.chars().filter(c -> c == '"').count();
+        while (quotes % 2 != 0 && (line = reader.readLine()) != null) {
+            record.append('\n').append(line);
+            quotes += line.chars().filter(c -> c == '"').count();
+        }
+        return record.toString();
+    }
+
+    private static List<String> parseCsvLine(String line) {
+        List<String> values = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("unterminated quoted value");
+        }
+        values.add(current.toString());
+        return values;
+    }
+
+    private record ImportRow(long row, BookCreateDTO book) {
+    }
+}
@@ -1,36 +1,72 @@
 package library.code.service;
 
+import library.code.component.BookSearchIndex;
+import library.code.component.CountCache;
+import library.code.component.PaginationProperties;
+import library.code.component.SearchProperties;
+import library.code.component.SuggestionIndex;
 import library.code.dto.bookDTO.BookCreateDTO;
 import library.code.dto.bookDTO.BookDTO;
+import library.code.dto.bookDTO.BookFacetsDTO;
+import library.code.dto.bookDTO.BookGenreIndexDTO;
+import library.code.dto.bookDTO.BookSearchResultDTO;
 import library.code.dto.bookDTO.BookUpdateDTO;
 import library.code.dto.specificationDTO.BookParamDTO;
+import library.code.dto.specificationDTO.PageDTO;
+import library.code.dto.suggestionDTO.SuggestionDTO;
+import library.code.dto.suggestionDTO.SuggestionType;
 import library.code.exception.ResourceNotFoundException;
 import library.code.mapper.BookMapper;
 import library.code.models.Book;
 import library.code.repositories.BookRepository;
 import library.code.specification.BookSpecification;
+import library.code.specification.KeysetCursor;
+import library.code.specification.SpecificationPager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class BookService {
+    private static final Set<String> CURSOR_SORT_PROPERTIES = Set.of("id", "bookTitle", "isbn");
+
     private final BookRepository bookRepository;
     private final BookMapper bookMapper;
     private final BookSpecification bookSpecification;
+    private final PaginationProperties paginationProperties;
+    private final SpecificationPager specificationPager;
+    private final CountCache countCache;
+    private final BookSearchIndex bookSearchIndex;
+    private final SearchProperties searchProperties;
+    private final SuggestionIndex suggestionIndex;
 
+    @Transactional(readOnly = true)
+    public PageDTO<BookDTO> getAllBooks(BookParamDTO params, int page, Integer size, String after, String sort) {
+        return getAllBooks(params, resolveScope(params), page, size, after, sort);
+    }
 
-    public List<BookDTO> getAllBooks(BookParamDTO params, int page, String sort) {
-        log.info("Fetching books with parameters: {}, page: {}, sort: {}", params, page, sort);
+    private PageDTO<BookDTO> getAllBooks(BookParamDTO params, SearchScope scope, int page, Integer size,
+                                         String after, String sort) {
+        log.info("Fetching books with parameters: {}, page: {}, size: {}, after: {}, sort: {}",
+                params, page, size, after, sort);
 
         String[] sortParams = sort.split(", ");
 
@@ -39,24 +75,241 @@ public class BookService {
             throw new IllegalArgumentException("Invalid sort direction");
         }
 
-        Sort sortOrder = Sort.by(sortParams[1].equals("asc") ? Sort.Order.asc(sortParams[0].trim())
-                : Sort.Order.desc(sortParams[0].trim()));
+        Sort.Order order = sortParams[1].equals("asc") ? Sort.Order.asc(sortParams[0].trim())
+                : Sort.Order.desc(sortParams[0].trim());
+        int pageSize = resolvePageSize(size);
+        boolean keyset = after != null && !after.isBlank();
+
+        if (scope.rankedIds() != null) {
+            if (keyset) {
+                log.error("Cursor pagination is not supported for fuzzy search");
+                throw new IllegalArgumentException("Cursor pagination is not supported for fuzzy search");
+            }
+            return getRankedBooks(params, scope, page, pageSize);
+        }
+
+        Set<Long> candidateIds = scope.candidateIds();
+        if (candidateIds != null && candidateIds.isEmpty()) {
+            log.info("Search index found no books for parameters: {}", params);
+            return new PageDTO<>(List.of(), 0, null);
+        }
+
+        List<BookDTO> books;
+        if (keyset) {
+            var cursor = KeysetCursor.decode(after);
+            if (!CURSOR_SORT_PROPERTIES.contains(order.getProperty())
+                    || !cursor.getSortProperty().equals(order.getProperty())) {
+                log.error("Cursor {} does not match sort: {}", after, sort);
+                throw new IllegalArgumentException("Cursor does not match sort " + sort);
+            }
+
+            Sort sortOrder = withIdTieBreaker(order);
+            Specification<Book> spec = filter(params, null, candidateIds)
+                    .and(bookSpecification.after(order, cursor));
+            books = specificationPager.findProjectedPage(Book.class, spec, PageRequest.of(0, pageSize, sortOrder),
+                    BookDTO.class, bookSpecification::listColumns);
+        } else {
+            Sort sortOrder = CURSOR_SORT_PROPERTIES.contains(order.getProperty())
+                    ? withIdTieBreaker(order) : Sort.by(order);
+            Specification<Book> spec = filter(params, sortOrder, candidateIds);
+            Pageable pageable = PageRequest.of(page - 1, pageSize, sortOrder);
+            books = specificationPager.findProjectedPage(Book.class, spec, pageable, BookDTO.class,
+                    bookSpecification::listColumns);
+        }
+        fillGenreTypes(books);
+
+        String nextCursor = null;
+        if (books.size() == pageSize && CURSOR_SORT_PROPERTIES.contains(order.getProperty())) {
+            var last = books.get(books.size() - 1);
+            nextCursor = new KeysetCursor(order.getProperty(), last.getId(), sortValue(last, order.getProperty()))
+                    .encode();
+        }
+
+        long totalCount = countCache.get(Book.class, params,
+                () -> bookRepository.count(filter(params, null, candidateIds)));
+
+        log.info("Retrieved {} of {} books", books.size(), totalCount);
+        return new PageDTO<>(books, totalCount, nextCursor);
+    }
+
+    @Transactional(readOnly = true)
+    public BookSearchResultDTO searchBooks(BookParamDTO params, int page, Integer size, String after, String sort) {
+        var scope = resolveScope(params);
+        var bookPage = getAllBooks(params, scope, page, size, after, sort);
 
-        Specification<Book> spec = bookSpecification.build(params, sortOrder);
-        Pageable pageable = PageRequest.of(page - 1, 10, sortOrder);
+        var spec = facetFilter(params, scope);
+        BookFacetsDTO facets = spec == null
+                ? new BookFacetsDTO(List.of(), List.of(), List.of())
+                : new BookFacetsDTO(
+                        specificationPager.countFacet(Book.class, spec, root -> root.join("genres"),
+                                "id", "typeOfGenre"),
+                        specificationPager.countFacet(Book.class, spec, root -> root.join("publisher"),
+                                "id", "title"),
+                        specificationPager.countFacet(Book.class, spec, root -> root,
+                                null, "directionOfLiterature"));
+
+        log.info("Computed facets for {} books", bookPage.getTotalCount());
+        return new BookSearchResultDTO(bookPage.getItems(), bookPage.getTotalCount(), bookPage.getNextCursor(),
+                facets);
+    }
+
+    private SearchScope resolveScope(BookParamDTO params) {
+        if (params.isFuzzy()) {
+            var ranked = bookSearchIndex.findFuzzy(params, searchProperties.getMaxCandidates());
+            if (ranked.isPresent()) {
+                return new SearchScope(ranked.get(), matchRanked(withoutFuzzyTerms(params), ranked.get()), null);
+            }
+            log.debug("Fuzzy search is unavailable for parameters: {}, using substring filters", params);
+        }
+        return new SearchScope(null, null, resolveCandidates(params));
+    }
 
-        var books = bookRepository.findAll(spec, pageable).stream()
-                .map(bookMapper::map)
+    private Specification<Book> facetFilter(BookParamDTO params, SearchScope scope) {
+        if (scope.rankedIds() != null) {
+            return scope.matchingIds().isEmpty() ? null : bookSpecification.withIdIn(scope.matchingIds());
+        }
+
+        Set<Long> candidateIds = scope.candidateIds();
+        if (candidateIds != null && candidateIds.isEmpty()) {
+            return null;
+        }
+        return filter(params, null, candidateIds);
+    }
+
+    private Set<Long> matchRanked(BookParamDTO otherParams, List<Long> rankedIds) {
+        var candidateIds = resolveCandidates(otherParams);
+        Set<Long> rankedSet = new HashSet<>(rankedIds);
+        if (candidateIds != null) {
+            rankedSet.retainAll(candidateIds);
+        }
+        if (rankedSet.isEmpty()) {
+            return rankedSet;
+        }
+        return new HashSet<>(specificationPager.findIds(Book.class,
+                bookSpecification.build(otherParams, null).and(bookSpecification.withIdIn(rankedSet))));
+    }
+
+    private PageDTO<BookDTO> getRankedBooks(BookParamDTO params, SearchScope scope, int page, int pageSize) {
+        Set<Long> matchingIds = scope.matchingIds();
+        if (matchingIds.isEmpty()) {
+            log.info("Fuzzy search found no books for parameters: {}", params);
+            return new PageDTO<>(List.of(), 0, null);
+        }
+
+        List<Long> orderedIds = scope.rankedIds().stream().filter(matchingIds::contains).toList();
+
+        int from = (page - 1) * pageSize;
+        if (from >= orderedIds.size()) {
+            return new PageDTO<>(List.of(), orderedIds.size(), null);
+        }
+        List<Long> pageIds = orderedIds.subList(from, Math.min(from + pageSize, orderedIds.size()));
+
+        var books = specificationPager.findProjectedPage(Book.class,
+                bookSpecification.withIdIn(new HashSet<>(pageIds)), PageRequest.of(0, pageSize), BookDTO.class,
+                bookSpecification::listColumns);
+        fillGenreTypes(books);
+        Map<Long, BookDTO> booksById = books.stream()
+                .collect(Collectors.toMap(BookDTO::getId, Function.identity()));
+
+        var bookDTOs = pageIds.stream()
+                .map(booksById::get)
+                .filter(Objects::nonNull)
                 .collect(Collectors.toList());
 
-        log.info("Retrieved {} books", books.size());
-        return books;
+        log.info("Retrieved {} of {} fuzzy matched books", bookDTOs.size(), orderedIds.size());
+        return new PageDTO<>(bookDTOs, orderedIds.size(), null);
+    }
+
+    private BookParamDTO withoutFuzzyTerms(BookParamDTO params) {
+        var otherParams = new BookParamDTO();
+        otherParams.setAuthorFirstNameCont(params.getAuthorFirstNameCont());
+        otherParams.setPublisherTitleCont(params.getPublisherTitleCont());
+        otherParams.setGenreTypes(params.getGenreTypes());
+        otherParams.setGenreMatch(params.getGenreMatch());
+        otherParams.setDirectionOfLiterature(params.getDirectionOfLiterature());
+        return otherParams;
+    }
+
+    private BookParamDTO withoutGenreTypes(BookParamDTO params) {
+        var otherParams = new BookParamDTO();
+        otherParams.setBookCont(params.getBookCont());
+        otherParams.setAuthorFirstNameCont(params.getAuthorFirstNameCont());
+        otherParams.setAuthorSurnameCont(params.getAuthorSurnameCont());
+        otherParams.setPublisherTitleCont(params.getPublisherTitleCont());
+        otherParams.setDirectionOfLiterature(params.getDirectionOfLiterature());
+        otherParams.setFuzzy(params.isFuzzy());
+        return otherParams;
+    }
+
+    private Set<Long> resolveCandidates(BookParamDTO params) {
+        var candidates = bookSearchIndex.findCandidates(params).orElse(null);
+        if (candidates != null && candidates.size() > searchProperties.getMaxCandidates()) {
+            log.debug("Search index matched {} books, falling back to database filtering", candidates.size());
+            return null;
+        }
+        return candidates;
+    }
+
+    private Specification<Book> filter(BookParamDTO params, Sort sort, Set<Long> candidateIds) {
+        if (candidateIds == null) {
+            return bookSpecification.build(params, sort);
+        }
+        return bookSpecification.build(withoutGenreTypes(params), sort)
+                .and(bookSpecification.withIdIn(candidateIds));
+    }
+
+    private void fillGenreTypes(List<BookDTO> books) {
+        if (books.isEmpty()) {
+            return;
+        }
+        Map<Long, Set<String>> genreTypes = bookRepository.findGenreEntries(books.stream().map(BookDTO::getId).toList())
+                .stream()
+                .collect(Collectors.groupingBy(BookGenreIndexDTO::getBookId,
+                        Collectors.mapping(BookGenreIndexDTO::getTypeOfGenre, Collectors.toSet())));
+        books.forEach(book -> book.setGenreTypes(genreTypes.getOrDefault(book.getId(), new HashSet<>())));
+    }
+
+    private int resolvePageSize(Integer size) {
+        if (size == null) {
+            return paginationProperties.getDefaultPageSize();
+        }
+        if (size < 1 || size > paginationProperties.getMaxPageSize()) {
+            log.error("Invalid page size: {}", size);
+            throw new IllegalArgumentException("Page size must be between 1 and "
+                    + paginationProperties.getMaxPageSize());
+        }
+        return size;
+    }
+
+    private Sort withIdTieBreaker(Sort.Order order) {
+        if (order.getProperty().equals("id")) {
+            return Sort.by(order);
+        }
+        return Sort.by(order, new Sort.Order(order.getDirection(), "id"));
+    }
+
+    private String sortValue(BookDTO book, String property) {
+        return switch (property) {
+            case "bookTitle" -> book.getBookTitle();
+            case "isbn" -> book.getIsbn();
+            default -> String.valueOf(book.getId());
+        };
+    }
+
+    public List<SuggestionDTO> suggest(String query, Integer limit) {
+        log.info("Fetching suggestions for prefix: {}", query);
+        int maxSuggestions = searchProperties.getMaxSuggestions();
+        if (limit != null && (limit < 1 || limit > maxSuggestions)) {
+            log.error("Invalid suggestion limit: {}", limit);
+            throw new IllegalArgumentException("Limit must be between 1 and " + maxSuggestions);
+        }
+        return suggestionIndex.suggest(query, limit != null ? limit : maxSuggestions);
     }
 
     public BookDTO getBook(Long id) {
         log.info("Fetching book with ID: {}", id);
 
-        var book = bookRepository.findById(id)
+        var book = bookRepository.findWithDetailsById(id)
                 .orElseThrow(() -> {
                     log.error("Book with ID {} not found", id);
                     return new ResourceNotFoundException("Book with ID: " + id + " not found");
@@ -70,7 +323,12 @@ public class BookService {
         log.info("Creating new book with data: {}", createDTO);
 
         var book = bookMapper.map(createDTO);
-        bookRepository.save(book);
+        saveAndVerifyReferences(book);
+        bookSearchIndex.indexGenres(book);
+        suggestionIndex.add(SuggestionType.TITLE, book.getBookTitle(), 0);
+        suggestionIndex.increment(SuggestionType.AUTHOR, authorName(book), 1);
+        suggestionIndex.increment(SuggestionType.PUBLISHER, publisherTitle(book), 1);
+        countCache.evict(Book.class);
 
         log.info("Successfully created book with ID: {}", book.getId());
         return bookMapper.map(book);
@@ -84,8 +342,25 @@ public class BookService {
                     log.error("Book with ID {} not found", id);
                     return new ResourceNotFoundException("Book with ID: " + id + " not found");
                 });
+        String oldTitle = book.getBookTitle();
+        String oldAuthor = authorName(book);
+        String oldPublisher = publisherTitle(book);
         bookMapper.update(updateDTO, book);
-        bookRepository.save(book);
+        saveAndVerifyReferences(book);
+        bookSearchIndex.indexGenres(book);
+        if (!Objects.equals(oldTitle, book.getBookTitle())) {
+            suggestionIndex.remove(SuggestionType.TITLE, oldTitle, 0);
+            suggestionIndex.add(SuggestionType.TITLE, book.getBookTitle(), 0);
+        }
+        if (!Objects.equals(oldAuthor, authorName(book))) {
+            suggestionIndex.increment(SuggestionType.AUTHOR, oldAuthor, -1);
+            suggestionIndex.increment(SuggestionType.AUTHOR, authorName(book), 1);
+        }
+        if (!Objects.equals(oldPublisher, publisherTitle(book))) {
+            suggestionIndex.increment(SuggestionType.PUBLISHER, oldPublisher, -1);
+            suggestionIndex.increment(SuggestionType.PUBLISHER, publisherTitle(book), 1);
+        }
+        countCache.evict(Book.class);
 
         log.info("Successfully updated book with ID: {}", id);
         return bookMapper.map(book);
@@ -93,8 +368,52 @@ public class BookService {
 
     public void deleteBook(Long id) {
         log.info("Attempting to delete book with ID: {}", id);
-        bookRepository.deleteById(id);
+        bookRepository.findById(id).ifPresent(book -> {
+            String title = book.getBookTitle();
+            String author = authorName(book);
+            String publisher = publisherTitle(book);
+            bookRepository.delete(book);
+            afterCommit(() -> {
+                suggestionIndex.remove(SuggestionType.TITLE, title, 0);
+                suggestionIndex.increment(SuggestionType.AUTHOR, author, -1);
+                suggestionIndex.increment(SuggestionType.PUBLISHER, publisher, -1);
+            });
+        });
+        countCache.evict(Book.class);
         log.info("Successfully deleted book with ID: {}", id);
     }
-}
 
+    private void saveAndVerifyReferences(Book book) {
+        try {
+            bookRepository.saveAndFlush(book);
+        } catch (DataIntegrityViolationException ex) {
+            bookMapper.verifyReferences(book);
+            throw ex;
+        }
+    }
+
+    private String authorName(Book book) {
+        return book.getAuthor() != null
+                ? book.getAuthor().getFirstName() + " " + book.getAuthor().getLastName() : null;
+    }
+
+    private String publisherTitle(Book book) {
+        return book.getPublisher() != null ? book.getPublisher().getTitle() : null;
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private record SearchScope(List<Long> rankedIds, Set<Long> matchingIds, Set<Long> candidateIds) {
+    }
+}
@@ -0,0 +1,235 @@
+package library.code.service;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import library.code.component.CatalogProperties;
+import library.code.dto.exportDTO.ExportFormat;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPOutputStream;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CatalogExportService {
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("dd-MM-yyyy");
+    private static final String GENRE_SEPARATOR = "|";
+    private static final List<String> BOOK_COLUMNS = List.of("id", "book_title", "author_id", "publisher_id",
+            "published_date", "ISBN", "direction_of_literature", "genre_types");
+    private static final List<String> READER_COLUMNS = List.of("id", "first_name", "last_name", "passport_details",
+            "library_card_number", "email", "age", "phone", "address", "createdAt", "updatedAt");
+    private static final String SELECT_BOOKS = "select b.id, b.book_title, b.author_id, b.publisher_id, "
+            + "b.published_date, b.isbn, b.direction_of_literature, g.type_of_genre from books b "
+            + "left join book_genre bg on bg.book_id = b.id left join genres g on g.id = bg.genre_id "
+            + "order by b.id";
+    private static final String SELECT_READERS = "select r.id, r.first_name, r.last_name, r.passport_details, "
+            + "c.card_number, u.email, r.age, r.phone, r.address, r.created_at, r.updated_at from readers r "
+            + "left join library_cards c on c.reader_id = r.id left join users u on u.reader_id = r.id "
+            + "order by r.id";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final CatalogProperties catalogProperties;
+
+    @Transactional(readOnly = true)
+    public long exportBooks(ExportFormat format, boolean gzip, OutputStream output) throws IOException {
+        log.info("Starting {} export of books, gzip: {}", format, gzip);
+        try (var writer = createWriter(format, BOOK_COLUMNS, gzip, output)) {
+            var handler = new BookRowHandler(writer);
+            stream(SELECT_BOOKS, handler);
+            handler.finish();
+            log.info("Exported {} books", handler.getExported());
+            return handler.getExported();
+        } catch (UncheckedIOException ex) {
+            log.error("Book export aborted: {}", ex.getMessage());
+            throw ex.getCause();
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public long exportReaders(ExportFormat format, boolean gzip, OutputStream output) throws IOException {
+        log.info("Starting {} export of readers, gzip: {}", format, gzip);
+        try (var writer = createWriter(format, READER_COLUMNS, gzip, output)) {
+            long[] exported = {0};
+            stream(SELECT_READERS, rs -> {
+                writer.write(Arrays.asList(rs.getLong(1), rs.getString(2), rs.getString(3), rs.getString(4),
+                        rs.getString(5), rs.getString(6), rs.getObject(7, Integer.class), rs.getString(8),
+                        rs.getString(9), formatDate(rs.getObject(10, LocalDate.class)),
+                        formatDate(rs.getObject(11, LocalDate.class))));
+                exported[0]++;
+            });
+            log.info("Exported {} readers", exported[0]);
+            return exported[0];
+        } catch (UncheckedIOException ex) {
+            log.error("Reader export aborted: {}", ex.getMessage());
+            throw ex.getCause();
+        }
+    }
+
+    private void stream(String sql, RowCallbackHandler handler) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY,
+                    ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(catalogProperties.getExportFetchSize());
+            return statement;
+        }, handler);
+    }
+
+    private RowWriter createWriter(ExportFormat format, List<String> columns, boolean gzip, OutputStream output)
+            throws IOException {
+        OutputStream target = gzip ? new GZIPOutputStream(output, 8192) : output;
+        return format == ExportFormat.CSV
+                ? new CsvRowWriter(new BufferedWriter(new OutputStreamWriter(target, StandardCharsets.UTF_8)), columns)
+                : new NdjsonRowWriter(objectMapper.getFactory().createGenerator(target, JsonEncoding.UTF8), columns);
+    }
+
+    private static String formatDate(LocalDate date) {
+        return date != null ? date.format(DATE_FORMAT) : null;
+    }
+
+    private interface RowWriter extends Closeable {
+        void write(List<Object> values);
+    }
+
+    private static final class NdjsonRowWriter implements RowWriter {
+        private final JsonGenerator generator;
+        private final List<String> columns;
+        private boolean written;
+
+        private NdjsonRowWriter(JsonGenerator generator, List<String> columns) {
+            this.generator = generator;
+            this.columns = columns;
+            generator.setRootValueSeparator(new SerializedString("\n"));
+        }
+
+        @Override
+        public void write(List<Object> values) {
+            try {
+                generator.writeStartObject();
+                for (int i = 0; i < columns.size(); i++) {
+                    generator.writeObjectField(columns.get(i), values.get(i));
+                }
+                generator.writeEndObject();
+                written = true;
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (written) {
+                generator.writeRaw('\n');
+            }
+            generator.close();
+        }
+    }
+
+    private static final class CsvRowWriter implements RowWriter {
+        private final Writer writer;
+
+        private CsvRowWriter(Writer writer, List<String> columns) throws IOException {
+            this.writer = writer;
+            writeLine(new ArrayList<>(columns));
+        }
+
+        @Override
+        public void write(List<Object> values) {
+            try {
+                writeLine(values);
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            writer.close();
+        }
+
+        private void writeLine(List<Object> values) throws IOException {
+            for (int i = 0; i < values.size(); i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                writer.write(escape(values.get(i)));
+            }
+            writer.write('\n');
+        }
+
+        private static String escape(Object value) {
+            if (value == null) {
+                return "";
+            }
+            String text = value instanceof List<?> list
+                    ? list.stream().map(String::valueOf).collect(Collectors.joining(GENRE_SEPARATOR))
+                    : String.valueOf(value);
+            if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+                return text;
+            }
+            return '"' + text.replace("\"", "\"\"") + '"';
+        }
+    }
+
+    private static final class BookRowHandler implements RowCallbackHandler {
+        private final RowWriter writer;
+        private List<Object> current;
+        private List<String> genreTypes;
+        private long exported;
+
+        private BookRowHandler(RowWriter writer) {
+            this.writer = writer;
+        }
+
+        @Override
+        public void processRow(ResultSet rs) throws SQLException {
+            long id = rs.getLong(1);
+            if (current == null || !current.get(0).equals(id)) {
+                finish();
+                genreTypes = new ArrayList<>();
+                current = Arrays.asList(id, rs.getString(2), rs.getLong(3), rs.getLong(4),
+                        formatDate(rs.getObject(5, LocalDate.class)), rs.getString(6), rs.getString(7), genreTypes);
+            }
+            String genreType = rs.getString(8);
+            if (genreType != null) {
+                genreTypes.add(genreType);
+            }
+        }
+
+        private void finish() {
+            if (current != null) {
+                writer.write(current);
+                exported++;
+                current = null;
+            }
+        }
+
+        private long getExported() {
+            return exported;
+        }
+    }
+}
@@ -1,17 +1,28 @@
 package library.code.service;
 
+import jakarta.mail.internet.MimeMessage;
+import library.code.component.SmtpTransportPool;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.mail.MailSendException;
 import org.springframework.mail.SimpleMailMessage;
 import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMailMessage;
 import org.springframework.stereotype.Service;
 
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
 @Slf4j
 @Service
 public class EmailNotificationService {
 
     @Autowired
     private JavaMailSender mailSender;
+    @Autowired
+    private SmtpTransportPool smtpTransportPool;
 
     public void sendEmail(String to, String subject, String text) {
         try {
@@ -26,4 +37,34 @@ public class EmailNotificationService {
             throw ex;
         }
     }
+
+    public void sendBulk(List<SimpleMailMessage> messages) {
+        if (messages.isEmpty()) {
+            return;
+        }
+
+        Map<Object, Exception> failedMessages = new LinkedHashMap<>();
+        var transport = smtpTransportPool.borrow();
+        try {
+            for (var message : messages) {
+                try {
+                    MimeMessage mimeMessage = mailSender.createMimeMessage();
+                    message.copyTo(new MimeMailMessage(mimeMessage));
+                    transport.send(mimeMessage);
+                } catch (Exception ex) {
+                    log.error("Failed to send email to {} with subject: {}. Error: {}",
+                            Arrays.toString(message.getTo()), message.getSubject(), ex.getMessage());
+                    failedMessages.put(message, ex);
+                }
+            }
+        } finally {
+            smtpTransportPool.release(transport);
+        }
+
+        log.info("Bulk of {} emails sent over a pooled SMTP connection, {} failed",
+                messages.size() - failedMessages.size(), failedMessages.size());
+        if (!failedMessages.isEmpty()) {
+            throw new MailSendException(failedMessages);
+        }
+    }
 }
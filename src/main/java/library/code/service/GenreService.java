@@ -1,10 +1,13 @@
 package library.code.service;
 
+import library.code.component.BookSearchIndex;
+import library.code.component.ReferenceCache;
 import library.code.dto.genreDTO.GenreCreateDTO;
 import library.code.dto.genreDTO.GenreDTO;
 import library.code.dto.genreDTO.GenreUpdateDTO;
 import library.code.exception.ResourceNotFoundException;
 import library.code.mapper.GenreMapper;
+import library.code.models.Genre;
 import library.code.repositories.GenreRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -19,6 +22,8 @@ import java.util.stream.Collectors;
 public class GenreService {
     private final GenreRepository genreRepository;
     private final GenreMapper genreMapper;
+    private final BookSearchIndex bookSearchIndex;
+    private final ReferenceCache referenceCache;
 
     public List<GenreDTO> getAllGenres() {
         log.info("Fetching all genres");
@@ -65,6 +70,8 @@ public class GenreService {
 
         genreMapper.update(updateDTO, genre);
         genreRepository.save(genre);
+        referenceCache.evictAll(Genre.class);
+        bookSearchIndex.renameGenre(genre.getId(), genre.getTypeOfGenre());
         log.info("Successfully updated genre with ID: {}", id);
         return genreMapper.map(genre);
     }
@@ -72,6 +79,8 @@ public class GenreService {
     public void deleteGenre(Long id) {
         log.info("Attempting to delete genre with ID: {}", id);
         genreRepository.deleteById(id);
+        referenceCache.evictAll(Genre.class);
+        bookSearchIndex.removeGenre(id);
         log.info("Successfully deleted genre with ID: {}", id);
     }
 }
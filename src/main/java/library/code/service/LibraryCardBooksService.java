@@ -1,30 +1,47 @@
 package library.code.service;
 
+import library.code.component.LookupRegistry;
+import library.code.component.RequestMemo;
+import library.code.component.SuggestionIndex;
 import library.code.dto.libraryCardBooksDTO.LibraryCardBookCreateDTO;
 import library.code.dto.libraryCardBooksDTO.LibraryCardBookDTO;
 import library.code.dto.libraryCardBooksDTO.LibraryCardBookUpdateDTO;
+import library.code.dto.suggestionDTO.SuggestionType;
 import library.code.exception.ResourceNotFoundException;
 import library.code.mapper.LibraryCardBookMapper;
 import library.code.models.LibraryCardBooks;
 import library.code.models.NotificationStatus;
 import library.code.models.NotificationStatusName;
 import library.code.repositories.LibraryCardBooksRepository;
-import library.code.repositories.NotificationStatusRepository;
+import library.code.repositories.LibraryCardRepository;
+import library.code.repositories.UserRepository;
+import library.code.unil.JwtPrincipal;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class LibraryCardBooksService {
+    private static final String LOANS_MEMO = "libraryCardBooks";
+    private static final String LOAN_OWNERSHIP_MEMO = "libraryCardBookOwnership";
+    private static final String CARD_OWNERSHIP_MEMO = "libraryCardOwnership";
+    private static final String READER_ID_MEMO = "readerIdByEmail";
+
     private final LibraryCardBooksRepository cardBooksRepository;
+    private final LibraryCardRepository libraryCardRepository;
+    private final UserRepository userRepository;
     private final LibraryCardBookMapper cardBookMapper;
-    private final NotificationStatusRepository notificationStatusRepository;
+    private final LookupRegistry lookupRegistry;
+    private final SuggestionIndex suggestionIndex;
+    private final RequestMemo requestMemo;
 
     public List<LibraryCardBookDTO> getAllBooksInCardBooks(Long libraryCardId) {
         log.info("Fetching all books in library card books");
@@ -39,7 +56,7 @@ public class LibraryCardBooksService {
     public LibraryCardBookDTO getBooksInCardBooks(Long id) {
         log.info("Fetching the book in library card book with ID: {}", id);
 
-        var cardBooks = cardBooksRepository.findById(id)
+        var cardBooks = findCardBooks(id)
                 .orElseThrow(() -> {
                     log.error("The book in library card book with ID: {} not found", id);
                     return new ResourceNotFoundException("The book with ID: "
@@ -56,13 +73,12 @@ public class LibraryCardBooksService {
         var cardBooks = cardBookMapper.map(createDTO);
 
         LocalDate expectedReturnDate = cardBooks.getBorrowDate().plusWeeks(4);
-        NotificationStatus status = notificationStatusRepository.findByStatusName(NotificationStatusName.PENDING)
-                .orElseThrow(() -> new ResourceNotFoundException("notification status 'pending'"
-                        + " not found"));
+        NotificationStatus status = lookupRegistry.getNotificationStatus(NotificationStatusName.PENDING);
 
         cardBooks.setExpectedReturn(expectedReturnDate);
         cardBooks.setNotificationStatus(status);
         cardBooksRepository.save(cardBooks);
+        suggestionIndex.increment(SuggestionType.TITLE, cardBooks.getBook().getBookTitle(), 1);
 
         log.info("The record library card was successfully created with an expected return date: {}",
                 expectedReturnDate);
@@ -72,14 +88,19 @@ public class LibraryCardBooksService {
     public LibraryCardBookDTO updateRecordInCardBooks(LibraryCardBookUpdateDTO updateDTO, Long id) {
         log.info("Attempting to update the record about book in library card book with ID: {}", id);
 
-        var cardBooks = cardBooksRepository.findById(id)
+        var cardBooks = findCardBooks(id)
                 .orElseThrow(() -> {
                     log.error("The book in library card book with ID: {} not found for update", id);
                     return new ResourceNotFoundException("Library card with books with ID: "
                             + id + " not found");
                 });
 
+        var previousExpectedReturn = cardBooks.getExpectedReturn();
         cardBookMapper.update(updateDTO, cardBooks);
+        if (!cardBooks.getExpectedReturn().equals(previousExpectedReturn)) {
+            log.info("Expected return date changed to {}, resetting reminders", cardBooks.getExpectedReturn());
+            cardBooks.setLastReminderOffset(null);
+        }
         cardBooksRepository.save(cardBooks);
 
         log.info("Successfully updated the record in library card book with ID: {}", id);
@@ -89,19 +110,25 @@ public class LibraryCardBooksService {
     public void deleteBookFromCardBooks(Long id) {
         log.info("Attempting to delete the record about book in library card book with ID: {}", id);
         cardBooksRepository.deleteById(id);
+        requestMemo.evict(LOANS_MEMO, id);
         log.info("Successfully deleted the record in library card book with ID: {}", id);
     }
 
+    public boolean isReaderOwnerOfBook(Long libraryCardBookId, Authentication authentication) {
+        return isReaderOwnerOfBook(libraryCardBookId, resolveReaderId(authentication));
+    }
+
     public boolean isReaderOwnerOfBook(Long libraryCardBookId, Long readerId) {
         log.info("Checking if reader with ID: {} is owner of library card book with ID: {}",
                 readerId, libraryCardBookId);
+        if (libraryCardBookId == null || readerId == null) {
+            log.warn("Cannot check ownership of library card book with ID: {} for reader with ID: {}",
+                    libraryCardBookId, readerId);
+            return false;
+        }
 
-        LibraryCardBooks cardBooks = cardBooksRepository.findById(libraryCardBookId)
-                .orElseThrow(() -> {
-                    log.error("Library card book with ID: {} not found", libraryCardBookId);
-                    return new ResourceNotFoundException("Library card with books not found");
-                });
-        boolean isOwner = cardBooks.getLibraryCard().getReader().getId().equals(readerId);
+        boolean isOwner = requestMemo.get(LOAN_OWNERSHIP_MEMO, List.of(libraryCardBookId, readerId),
+                () -> cardBooksRepository.existsByIdAndLibraryCardReaderId(libraryCardBookId, readerId));
 
         if (isOwner) {
             log.info("Reader with ID: {} is the owner of library card book with ID: {}",
@@ -113,4 +140,43 @@ public class LibraryCardBooksService {
 
         return isOwner;
     }
+
+    public boolean isReaderOwnerOfCard(Long libraryCardId, Authentication authentication) {
+        return isReaderOwnerOfCard(libraryCardId, resolveReaderId(authentication));
+    }
+
+    public boolean isReaderOwnerOfCard(Long libraryCardId, Long readerId) {
+        log.info("Checking if reader with ID: {} is owner of library card with ID: {}", readerId, libraryCardId);
+        if (libraryCardId == null || readerId == null) {
+            log.warn("Cannot check ownership of library card with ID: {} for reader with ID: {}",
+                    libraryCardId, readerId);
+            return false;
+        }
+
+        boolean isOwner = requestMemo.get(CARD_OWNERSHIP_MEMO, List.of(libraryCardId, readerId),
+                () -> libraryCardRepository.existsByIdAndReaderId(libraryCardId, readerId));
+
+        if (isOwner) {
+            log.info("Reader with ID: {} is the owner of library card with ID: {}", readerId, libraryCardId);
+        } else {
+            log.warn("Reader with ID: {} is NOT the owner of library card with ID: {}", readerId, libraryCardId);
+        }
+
+        return isOwner;
+    }
+
+    private Long resolveReaderId(Authentication authentication) {
+        var principal = JwtPrincipal.from(authentication);
+        if (principal != null && principal.getReaderId() != null) {
+            return principal.getReaderId();
+        }
+
+        var email = authentication.getName();
+        log.debug("Token of user with email: {} has no reader id claim, loading reader by email", email);
+        return requestMemo.get(READER_ID_MEMO, email, () -> userRepository.findReaderIdByEmail(email).orElse(null));
+    }
+
+    private Optional<LibraryCardBooks> findCardBooks(Long id) {
+        return requestMemo.get(LOANS_MEMO, id, () -> cardBooksRepository.findById(id));
+    }
 }
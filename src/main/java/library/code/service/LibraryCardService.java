@@ -1,5 +1,6 @@
 package library.code.service;
 
+import library.code.dto.libraryCardBooksDTO.LibraryCardBookDTO;
 import library.code.dto.libraryCardDTO.LibraryCardDTO;
 import library.code.dto.libraryCardDTO.LibraryCardUpdateDTO;
 import library.code.exception.ResourceNotFoundException;
@@ -10,8 +11,11 @@ import library.code.repositories.LibraryCardRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Random;
 import java.util.stream.Collectors;
 
@@ -23,11 +27,15 @@ public class LibraryCardService {
     private final LibraryCardRepository libraryCardRepository;
     private final LibraryCardMapper libraryCardMapper;
 
+    @Transactional(readOnly = true)
     public List<LibraryCardDTO> getAllCards() {
         log.info("Fetching all library cards");
-        var libraryCards =  libraryCardRepository.findAll().stream()
-                .map(libraryCardMapper::map)
-                .collect(Collectors.toList());
+        var libraryCards = libraryCardRepository.findAllCardViews();
+        Map<String, List<LibraryCardBookDTO>> borrowedBooks = libraryCardRepository.findAllBorrowedBookViews()
+                .stream()
+                .collect(Collectors.groupingBy(LibraryCardBookDTO::getLibraryCardNumber));
+        libraryCards.forEach(card -> card.setBorrowedBooks(
+                borrowedBooks.getOrDefault(card.getCardNumber(), new ArrayList<>())));
 
         log.info("Successfully fetched {} library cards", libraryCards.size());
         return libraryCards;
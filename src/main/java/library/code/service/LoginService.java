@@ -0,0 +1,68 @@
+package library.code.service;
+
+import library.code.component.LoginProperties;
+import library.code.component.LoginRateLimiter;
+import library.code.exception.TooManyLoginAttemptsException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LoginService {
+    private static final String BUSY_MESSAGE = "Login service is busy, try again later";
+    private static final long BUSY_RETRY_AFTER_SECONDS = 1;
+
+    private final AuthenticationManager authenticationManager;
+    private final LoginRateLimiter loginRateLimiter;
+    private final LoginProperties loginProperties;
+    private final ThreadPoolTaskExecutor loginTaskExecutor;
+
+    public Authentication authenticate(String email, String password, String clientIp) {
+        loginRateLimiter.acquire(email, clientIp);
+
+        Future<Authentication> verification;
+        try {
+            verification = loginTaskExecutor.submit(() -> authenticationManager.authenticate(
+                    new UsernamePasswordAuthenticationToken(email, password)));
+        } catch (RejectedExecutionException ex) {
+            log.warn("Login queue is full, rejecting login for email: {}", email);
+            throw new TooManyLoginAttemptsException(BUSY_MESSAGE, BUSY_RETRY_AFTER_SECONDS);
+        }
+
+        try {
+            return verification.get(loginProperties.getExecutor().getTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("Login verification failed", ex.getCause());
+        } catch (TimeoutException ex) {
+            abandon(verification);
+            log.warn("Login verification for email: {} timed out in the queue", email);
+            throw new TooManyLoginAttemptsException(BUSY_MESSAGE, BUSY_RETRY_AFTER_SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            abandon(verification);
+            throw new TooManyLoginAttemptsException(BUSY_MESSAGE, BUSY_RETRY_AFTER_SECONDS);
+        }
+    }
+
+    private void abandon(Future<Authentication> verification) {
+        verification.cancel(true);
+        if (verification instanceof Runnable queued) {
+            loginTaskExecutor.getThreadPoolExecutor().remove(queued);
+        }
+    }
+}
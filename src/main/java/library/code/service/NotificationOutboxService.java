@@ -0,0 +1,112 @@
+package library.code.service;
+
+import library.code.component.LookupRegistry;
+import library.code.component.NotificationProperties;
+import library.code.dto.notificationDTO.LoanReminderDTO;
+import library.code.models.NotificationOutbox;
+import library.code.models.NotificationOutboxStatus;
+import library.code.models.NotificationStatusName;
+import library.code.repositories.LibraryCardBooksRepository;
+import library.code.repositories.NotificationOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NotificationOutboxService {
+    private final NotificationOutboxRepository outboxRepository;
+    private final LibraryCardBooksRepository libraryCardBooksRepository;
+    private final NotificationProperties notificationProperties;
+    private final LookupRegistry lookupRegistry;
+
+    @Transactional
+    public void enqueue(List<LoanReminderDTO> reminders, int reminderOffset, String subject,
+                        Function<LoanReminderDTO, String> messageBuilder) {
+        var now = LocalDateTime.now();
+        List<NotificationOutbox> entries = new ArrayList<>(reminders.size());
+
+        for (var reminder : reminders) {
+            NotificationOutbox entry = new NotificationOutbox();
+            entry.setLibraryCardBook(libraryCardBooksRepository.getReferenceById(reminder.getId()));
+            entry.setRecipient(reminder.getEmail());
+            entry.setSubject(subject);
+            entry.setBody(messageBuilder.apply(reminder));
+            entry.setStatus(NotificationOutboxStatus.PENDING);
+            entry.setNextAttemptAt(now);
+            entries.add(entry);
+        }
+        outboxRepository.saveAll(entries);
+
+        var loanIds = reminders.stream().map(LoanReminderDTO::getId).toList();
+        libraryCardBooksRepository.updateNotificationStatus(loanIds,
+                lookupRegistry.getNotificationStatus(NotificationStatusName.QUEUED));
+        libraryCardBooksRepository.updateLastReminderOffset(loanIds, reminderOffset);
+        log.debug("Enqueued {} notifications into the outbox for reminder offset {}", entries.size(), reminderOffset);
+    }
+
+    public List<NotificationOutbox> findDue() {
+        return outboxRepository.findByStatusAndNextAttemptAtLessThanEqualOrderByIdAsc(
+                NotificationOutboxStatus.PENDING, LocalDateTime.now(),
+                PageRequest.of(0, notificationProperties.getOutbox().getBatchSize()));
+    }
+
+    @Transactional
+    public void markSent(List<NotificationOutbox> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        var entryIds = entries.stream().map(NotificationOutbox::getId).toList();
+        var loanIds = entries.stream().map(entry -> entry.getLibraryCardBook().getId()).toList();
+
+        outboxRepository.updateStatus(entryIds, NotificationOutboxStatus.SENT);
+        libraryCardBooksRepository.updateNotificationStatus(loanIds,
+                lookupRegistry.getNotificationStatus(NotificationStatusName.SUCCESS));
+    }
+
+    @Transactional
+    public void markFailed(Map<NotificationOutbox, String> failures) {
+        if (failures.isEmpty()) {
+            return;
+        }
+        var outboxProperties = notificationProperties.getOutbox();
+        var now = LocalDateTime.now();
+        List<Long> deadLoanIds = new ArrayList<>();
+
+        failures.forEach((entry, error) -> {
+            int attempts = entry.getAttempts() + 1;
+            entry.setAttempts(attempts);
+            entry.setLastError(error != null && error.length() > 1000 ? error.substring(0, 1000) : error);
+
+            if (attempts >= outboxProperties.getMaxAttempts()) {
+                entry.setStatus(NotificationOutboxStatus.DEAD);
+                deadLoanIds.add(entry.getLibraryCardBook().getId());
+                log.warn("Notification {} moved to dead letter after {} attempts", entry.getId(), attempts);
+            } else {
+                entry.setNextAttemptAt(now.plus(backoff(attempts)));
+            }
+        });
+        outboxRepository.saveAll(failures.keySet());
+
+        if (!deadLoanIds.isEmpty()) {
+            libraryCardBooksRepository.updateNotificationStatus(deadLoanIds,
+                    lookupRegistry.getNotificationStatus(NotificationStatusName.FAILED));
+        }
+    }
+
+    private Duration backoff(int attempts) {
+        var outboxProperties = notificationProperties.getOutbox();
+        var delay = outboxProperties.getInitialBackoff().multipliedBy(1L << Math.min(attempts - 1, 20));
+        return delay.compareTo(outboxProperties.getMaxBackoff()) > 0 ? outboxProperties.getMaxBackoff() : delay;
+    }
+}
@@ -1,16 +1,22 @@
 package library.code.service;
 
+import library.code.component.BookSearchIndex;
+import library.code.component.ReferenceCache;
+import library.code.component.SuggestionIndex;
 import library.code.dto.publisherDTO.PublisherCreateDTO;
 import library.code.dto.publisherDTO.PublisherDTO;
 import library.code.dto.publisherDTO.PublisherUpdateDTO;
+import library.code.dto.suggestionDTO.SuggestionType;
 import library.code.exception.ResourceNotFoundException;
 import library.code.mapper.PublisherMapper;
+import library.code.models.Publisher;
 import library.code.repositories.PublisherRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 @Service
@@ -19,6 +25,9 @@ import java.util.stream.Collectors;
 public class PublisherService {
     private final PublisherRepository publisherRepository;
     private final PublisherMapper publisherMapper;
+    private final BookSearchIndex bookSearchIndex;
+    private final ReferenceCache referenceCache;
+    private final SuggestionIndex suggestionIndex;
 
     public List<PublisherDTO> getAllPublishers() {
         log.info("Fetching all publishers");
@@ -49,6 +58,7 @@ public class PublisherService {
 
         var publisher = publisherMapper.map(createDTO);
         publisherRepository.save(publisher);
+        suggestionIndex.add(SuggestionType.PUBLISHER, publisher.getTitle(), 0);
 
         log.info("Successfully created publisher with name: {}", publisher.getTitle());
         return publisherMapper.map(publisher);
@@ -63,15 +73,26 @@ public class PublisherService {
                     return new ResourceNotFoundException("Publisher with ID: " + id + " not found");
                 });
 
+        String oldTitle = publisher.getTitle();
         publisherMapper.update(updateDTO, publisher);
         publisherRepository.save(publisher);
+        referenceCache.evict(Publisher.class, id);
+        bookSearchIndex.reindexPublisher(id);
+        if (!Objects.equals(oldTitle, publisher.getTitle())) {
+            suggestionIndex.remove(SuggestionType.PUBLISHER, oldTitle, 0);
+            suggestionIndex.add(SuggestionType.PUBLISHER, publisher.getTitle(), 0);
+        }
         log.info("Successfully updated publisher with ID: {}", id);
         return publisherMapper.map(publisher);
     }
 
     public void deletePublisher(Long id) {
         log.info("Attempting to delete publisher with ID: {}", id);
-        publisherRepository.deleteById(id);
+        publisherRepository.findById(id).ifPresent(publisher -> {
+            publisherRepository.delete(publisher);
+            suggestionIndex.remove(SuggestionType.PUBLISHER, publisher.getTitle(), 0);
+        });
+        referenceCache.evict(Publisher.class, id);
         log.info("Successfully deleted publisher with ID: {}", id);
     }
 }
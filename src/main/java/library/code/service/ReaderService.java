@@ -1,9 +1,11 @@
 package library.code.service;
 
+import library.code.component.CountCache;
 import library.code.dto.libraryCardDTO.LibraryCardDTO;
 import library.code.dto.readerDTO.ReaderCreateDTO;
 import library.code.dto.readerDTO.ReaderDTO;
 import library.code.dto.readerDTO.ReaderUpdateDTO;
+import library.code.dto.specificationDTO.PageDTO;
 import library.code.dto.specificationDTO.ReaderParamDTO;
 import library.code.exception.ResourceNotFoundException;
 import library.code.mapper.LibraryCardMapper;
@@ -14,6 +16,7 @@ import library.code.repositories.LibraryCardRepository;
 import library.code.repositories.ReaderRepository;
 import library.code.repositories.UserRepository;
 import library.code.specification.ReaderSpecification;
+import library.code.specification.SpecificationPager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.PageRequest;
@@ -21,9 +24,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
-
-import java.util.List;
-import java.util.stream.Collectors;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
@@ -36,8 +37,11 @@ public class ReaderService {
     private final UserRepository userRepository;
     private final ReaderMapper readerMapper;
     private final ReaderSpecification specification;
+    private final SpecificationPager specificationPager;
+    private final CountCache countCache;
 
-    public List<ReaderDTO> getAllReaders(ReaderParamDTO params, int page, String sort) {
+    @Transactional(readOnly = true)
+    public PageDTO<ReaderDTO> getAllReaders(ReaderParamDTO params, int page, String sort) {
         log.info("Fetching readers with params: {} | Page: {} | Sort: {}", params, page, sort);
 
         String[] sortParams = sort.split(", ");
@@ -52,12 +56,13 @@ public class ReaderService {
         Specification<Reader> spec = specification.build(params, sortOrder);
         Pageable pageable = PageRequest.of(page - 1, 10);
 
-        var readers = readerRepository.findAll(spec, pageable).stream()
-                .map(readerMapper::map)
-                .collect(Collectors.toList());
+        var readers = specificationPager.findProjectedPage(Reader.class, spec, pageable, ReaderDTO.class,
+                specification::listColumns);
+        long totalCount = countCache.get(Reader.class, params,
+                () -> readerRepository.count(specification.build(params, null)));
 
-        log.info("Successfully fetched {} readers", readers.size());
-        return readers;
+        log.info("Successfully fetched {} of {} readers", readers.size(), totalCount);
+        return new PageDTO<>(readers, totalCount, null);
     }
 
     public ReaderDTO getReader(Long id) {
@@ -115,6 +120,7 @@ public class ReaderService {
         reader.setLibraryCard(libraryCardService.createLibraryNumberCard(reader));
         reader.setUser(user);
         readerRepository.save(reader);
+        countCache.evict(Reader.class);
 
         log.info("Successfully completed reader profile for user ID: {}", userId);
         return readerMapper.map(reader);
@@ -131,6 +137,7 @@ public class ReaderService {
 
         readerMapper.update(updateDTO, reader);
         readerRepository.save(reader);
+        countCache.evict(Reader.class);
         log.info("Successfully updated reader profile with ID: {}", id);
         return readerMapper.map(reader);
     }
@@ -138,6 +145,7 @@ public class ReaderService {
     public void deleteReader(Long id) {
         log.info("Attempting to delete reader with ID: {}", id);
         readerRepository.deleteById(id);
+        countCache.evict(Reader.class);
         log.info("Successfully deleted reader with ID: {}", id);
     }
 }
@@ -1,65 +1,247 @@
 package library.code.service;
 
-import library.code.exception.ResourceNotFoundException;
-import library.code.models.LibraryCardBooks;
-import library.code.models.NotificationStatusName;
+import library.code.component.NotificationProperties;
+import library.code.dto.notificationDTO.LoanReminderDTO;
+import library.code.models.NotificationOutbox;
 import library.code.repositories.LibraryCardBooksRepository;
-import library.code.repositories.NotificationStatusRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.BooleanSupplier;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class ScheduledService {
+    private static final String REMINDER_SUBJECT = "Напоминание о возврате книги";
+    private static final String OVERDUE_SUBJECT = "Просрочен возврат книги";
+    private static final String REMINDERS_LEASE = "notification-reminders";
+    private static final String DISPATCH_LEASE = "notification-dispatch";
+
     private final EmailNotificationService emailNotificationService;
+    private final NotificationOutboxService notificationOutboxService;
+    private final SchedulerLeaseService schedulerLeaseService;
     private final LibraryCardBooksRepository libraryCardBooksRepository;
-    private final NotificationStatusRepository notificationStatusRepository;
+    private final NotificationProperties notificationProperties;
+    private final Executor emailTaskExecutor;
 
     @Async("emailTaskExecutor")
-    @Scheduled(cron = "0 0 10 * * ?")
-    public void sendNotificationsForThreeDays() {
-        LocalDate notificationDate = LocalDate.now().plusDays(3);
-        List<LibraryCardBooks> listOfBorrowedBooks = libraryCardBooksRepository.findByExpectedReturn(notificationDate);
+    @Scheduled(cron = "${notifications.reminders.cron:0 0 * * * ?}")
+    public void sendDueReminders() {
+        schedulerLeaseService.runExclusively(REMINDERS_LEASE,
+                leaseHeld -> sendRemindersForDate(LocalDate.now(), leaseHeld));
+    }
+
+    public void sendRemindersForDate(LocalDate today) {
+        sendRemindersForDate(today, () -> true);
+    }
 
-        if (listOfBorrowedBooks.isEmpty()) {
-            log.info("There are no books with return date {}", notificationDate);
+    public void sendRemindersForDate(LocalDate today, BooleanSupplier leaseHeld) {
+        var remindersProperties = notificationProperties.getReminders();
+        List<Integer> offsets = remindersProperties.getOffsets().stream().distinct().sorted().toList();
+        if (offsets.isEmpty()) {
+            log.warn("No reminder offsets configured, skipping reminders");
+            return;
         }
 
-        for (var rentalOfBook : listOfBorrowedBooks) {
-            try {
-                String email = rentalOfBook.getLibraryCard().getReader().getUser().getEmail();
-                String subject = "Напоминание о возврате книги";
-                String message = String.format("Уважаем %s, срок возврата книги %s истекает %s. "
-                                + "Пожалуйста, продлите аренду или верните книгу",
-                        rentalOfBook.getLibraryCard().getReader().getFirstName(),
-                        rentalOfBook.getBook().getBookTitle(),
-                        rentalOfBook.getExpectedReturn()
-                );
-                emailNotificationService.sendEmail(email, subject, message);
-
-                var notificationStatusSuccess =
-                        notificationStatusRepository.findByStatusName(NotificationStatusName.SUCCESS)
-                                .orElseThrow(() -> new ResourceNotFoundException("notification status 'success'"
-                                        + " not found"));
-                rentalOfBook.setNotificationStatus(notificationStatusSuccess);
-                libraryCardBooksRepository.save(rentalOfBook);
-            } catch (Exception ex) {
-                var notificationStatusFailed =
-                        notificationStatusRepository.findByStatusName(NotificationStatusName.FAILED)
-                                .orElseThrow(() -> new ResourceNotFoundException("notification status 'failed'"
-                                        + " not found"));
-                rentalOfBook.setNotificationStatus(notificationStatusFailed);
-                libraryCardBooksRepository.save(rentalOfBook);
-                log.error("Error sending email for book ID {}: {}", rentalOfBook.getBook().getId(), ex.getMessage());
-                throw ex;
+        LocalDate from = today.minusDays(offsets.get(offsets.size() - 1) + remindersProperties.getCatchUpDays());
+        LocalDate to = today.minusDays(offsets.get(0));
+        int batchSize = notificationProperties.getBatchSize();
+        LocalDate lastExpectedReturn = from;
+        long lastId = 0L;
+        int queuedCount = 0;
+        List<LoanReminderDTO> batch;
+
+        do {
+            if (!leaseHeld.getAsBoolean()) {
+                log.warn("Reminder lease lost, stopping after {} queued reminders", queuedCount);
+                return;
+            }
+            batch = libraryCardBooksRepository.findRemindersInWindow(from, to, lastExpectedReturn, lastId,
+                    PageRequest.of(0, batchSize));
+            if (batch.isEmpty()) {
+                break;
+            }
+
+            Map<Integer, List<LoanReminderDTO>> dueByOffset = new TreeMap<>();
+            for (var reminder : batch) {
+                Integer offset = reachedOffset(offsets, reminder.getExpectedReturn(), today);
+                Integer watermark = reminder.getLastReminderOffset();
+                if (offset != null && (watermark == null || offset > watermark)) {
+                    dueByOffset.computeIfAbsent(offset, key -> new ArrayList<>()).add(reminder);
+                }
+            }
+            for (var due : dueByOffset.entrySet()) {
+                notificationOutboxService.enqueue(due.getValue(), due.getKey(), buildReminderSubject(due.getKey()),
+                        reminder -> buildReminderMessage(reminder, today));
+                queuedCount += due.getValue().size();
+            }
+
+            var last = batch.get(batch.size() - 1);
+            lastExpectedReturn = last.getExpectedReturn();
+            lastId = last.getId();
+            log.debug("Scanned batch of {} loans up to return date {} and ID {}", batch.size(), lastExpectedReturn,
+                    lastId);
+        } while (batch.size() == batchSize);
+
+        if (queuedCount == 0) {
+            log.info("There are no due reminders for return dates between {} and {}", from, to);
+        } else {
+            log.info("Queued {} reminders for return dates between {} and {}", queuedCount, from, to);
+        }
+    }
+
+    private Integer reachedOffset(List<Integer> offsets, LocalDate expectedReturn, LocalDate today) {
+        for (int i = offsets.size() - 1; i >= 0; i--) {
+            if (!expectedReturn.plusDays(offsets.get(i)).isAfter(today)) {
+                return offsets.get(i);
+            }
+        }
+        return null;
+    }
+
+    @Scheduled(fixedDelayString = "${notifications.outbox.poll-delay:10000}")
+    public void dispatchNotifications() {
+        schedulerLeaseService.runExclusively(DISPATCH_LEASE, leaseHeld -> dispatchDueNotifications(leaseHeld));
+    }
+
+    public void dispatchDueNotifications() {
+        dispatchDueNotifications(() -> true);
+    }
+
+    public void dispatchDueNotifications(BooleanSupplier leaseHeld) {
+        int batchSize = notificationProperties.getOutbox().getBatchSize();
+        List<NotificationOutbox> batch;
+
+        do {
+            if (!leaseHeld.getAsBoolean()) {
+                log.warn("Dispatch lease lost, leaving remaining notifications to the new lease holder");
+                return;
+            }
+            batch = notificationOutboxService.findDue();
+            if (batch.isEmpty()) {
+                return;
             }
+
+            List<NotificationOutbox> sent = new ArrayList<>();
+            Map<NotificationOutbox, String> failed = new HashMap<>();
+            boolean completed = dispatchBatch(batch, sent, failed, leaseHeld);
+
+            notificationOutboxService.markSent(sent);
+            notificationOutboxService.markFailed(failed);
+            log.info("Dispatched {} notifications: {} sent, {} failed", batch.size(), sent.size(), failed.size());
+            if (!completed) {
+                log.warn("Dispatch lease lost, skipped {} notifications", batch.size() - sent.size() - failed.size());
+                return;
+            }
+        } while (batch.size() == batchSize);
+    }
+
+    private boolean dispatchBatch(List<NotificationOutbox> batch, List<NotificationOutbox> sent,
+                                  Map<NotificationOutbox, String> failed, BooleanSupplier leaseHeld) {
+        int slices = Math.max(1, Math.min(notificationProperties.getOutbox().getParallelism(), batch.size()));
+        int sliceSize = (batch.size() + slices - 1) / slices;
+        List<CompletableFuture<Map<NotificationOutbox, String>>> results = new ArrayList<>(slices);
+
+        for (int from = 0; from < batch.size(); from += sliceSize) {
+            var slice = batch.subList(from, Math.min(from + sliceSize, batch.size()));
+            results.add(CompletableFuture.supplyAsync(() -> sendSlice(slice, leaseHeld), emailTaskExecutor));
+        }
+
+        Map<NotificationOutbox, Boolean> skipped = new IdentityHashMap<>();
+        for (int i = 0; i < results.size(); i++) {
+            var result = results.get(i).join();
+            if (result == null) {
+                int from = i * sliceSize;
+                batch.subList(from, Math.min(from + sliceSize, batch.size()))
+                        .forEach(entry -> skipped.put(entry, Boolean.TRUE));
+            } else {
+                failed.putAll(result);
+            }
+        }
+        batch.stream()
+                .filter(entry -> !failed.containsKey(entry) && !skipped.containsKey(entry))
+                .forEach(sent::add);
+        return skipped.isEmpty();
+    }
+
+    private Map<NotificationOutbox, String> sendSlice(List<NotificationOutbox> slice, BooleanSupplier leaseHeld) {
+        if (!leaseHeld.getAsBoolean()) {
+            return null;
+        }
+        Map<SimpleMailMessage, NotificationOutbox> messages = new IdentityHashMap<>();
+        for (var entry : slice) {
+            SimpleMailMessage message = new SimpleMailMessage();
+            message.setTo(entry.getRecipient());
+            message.setSubject(entry.getSubject());
+            message.setText(entry.getBody());
+            messages.put(message, entry);
+        }
+
+        Map<NotificationOutbox, String> failed = new HashMap<>();
+        try {
+            emailNotificationService.sendBulk(new ArrayList<>(messages.keySet()));
+        } catch (MailSendException ex) {
+            if (ex.getFailedMessages().isEmpty()) {
+                slice.forEach(entry -> failed.put(entry, errorMessage(ex)));
+            } else {
+                ex.getFailedMessages().forEach((message, error) ->
+                        failed.put(messages.get(message), errorMessage(error)));
+            }
+        } catch (Exception ex) {
+            log.error("Error sending batch of {} notifications: {}", slice.size(), ex.getMessage());
+            slice.forEach(entry -> failed.put(entry, errorMessage(ex)));
+        }
+        return failed;
+    }
+
+    private String errorMessage(Exception ex) {
+        return ex.getMessage() != null ? ex.getMessage() : ex.getClass().getSimpleName();
+    }
+
+    private String buildReminderSubject(int offset) {
+        return offset > 0 ? OVERDUE_SUBJECT : REMINDER_SUBJECT;
+    }
+
+    private String buildReminderMessage(LoanReminderDTO reminder, LocalDate today) {
+        long overdueDays = ChronoUnit.DAYS.between(reminder.getExpectedReturn(), today);
+        if (overdueDays > 0) {
+            return String.format("Уважаем %s, книга %s должна была быть возвращена %s. "
+                            + "Просрочка составляет %d дн. Пожалуйста, верните книгу",
+                    reminder.getReaderFirstName(),
+                    reminder.getBookTitle(),
+                    reminder.getExpectedReturn(),
+                    overdueDays
+            );
+        }
+        if (overdueDays == 0) {
+            return String.format("Уважаем %s, срок возврата книги %s истекает сегодня. "
+                            + "Пожалуйста, продлите аренду или верните книгу",
+                    reminder.getReaderFirstName(),
+                    reminder.getBookTitle()
+            );
         }
+        return String.format("Уважаем %s, срок возврата книги %s истекает %s. "
+                        + "Пожалуйста, продлите аренду или верните книгу",
+                reminder.getReaderFirstName(),
+                reminder.getBookTitle(),
+                reminder.getExpectedReturn()
+        );
     }
 }
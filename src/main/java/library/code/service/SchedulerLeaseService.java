@@ -0,0 +1,126 @@
+package library.code.service;
+
+import jakarta.annotation.PreDestroy;
+import library.code.component.SchedulingProperties;
+import library.code.repositories.SchedulerLeaseRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+
+@Slf4j
+@Service
+public class SchedulerLeaseService {
+    private static final String CURRENT_TIME_QUERY = "select localtimestamp";
+
+    private final SchedulerLeaseRepository leaseRepository;
+    private final SchedulingProperties schedulingProperties;
+    private final JdbcTemplate jdbcTemplate;
+    private final ScheduledExecutorService heartbeatExecutor;
+    private final String nodeId;
+
+    public SchedulerLeaseService(SchedulerLeaseRepository leaseRepository, SchedulingProperties schedulingProperties,
+                                 JdbcTemplate jdbcTemplate) {
+        this.leaseRepository = leaseRepository;
+        this.schedulingProperties = schedulingProperties;
+        this.jdbcTemplate = jdbcTemplate;
+        this.heartbeatExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            var thread = new Thread(runnable, "LeaseHeartbeat");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.nodeId = StringUtils.hasText(schedulingProperties.getNodeId())
+                ? schedulingProperties.getNodeId()
+                : hostName() + "-" + UUID.randomUUID();
+    }
+
+    public boolean runExclusively(String leaseName, Runnable task) {
+        return runExclusively(leaseName, leaseHeld -> task.run());
+    }
+
+    public boolean runExclusively(String leaseName, Consumer<BooleanSupplier> task) {
+        if (!tryAcquire(leaseName)) {
+            log.debug("Lease '{}' is held by another node, skipping run on {}", leaseName, nodeId);
+            return false;
+        }
+
+        log.info("Node {} acquired lease '{}'", nodeId, leaseName);
+        var held = new AtomicBoolean(true);
+        long interval = schedulingProperties.getHeartbeatInterval().toMillis();
+        var heartbeat = heartbeatExecutor.scheduleAtFixedRate(() -> extend(leaseName, held), interval, interval,
+                TimeUnit.MILLISECONDS);
+        try {
+            task.accept(held::get);
+            return true;
+        } finally {
+            heartbeat.cancel(false);
+            if (held.get()) {
+                leaseRepository.release(leaseName, nodeId, currentTime());
+                log.info("Node {} released lease '{}'", nodeId, leaseName);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        heartbeatExecutor.shutdownNow();
+    }
+
+    private boolean tryAcquire(String leaseName) {
+        var now = currentTime();
+        var lockedUntil = now.plus(schedulingProperties.getDuration());
+        if (leaseRepository.acquire(leaseName, nodeId, lockedUntil, now) > 0) {
+            return true;
+        }
+        if (leaseRepository.existsById(leaseName)) {
+            return false;
+        }
+
+        try {
+            return leaseRepository.create(leaseName, nodeId, lockedUntil, now) > 0;
+        } catch (DataIntegrityViolationException ex) {
+            log.debug("Lease '{}' was created concurrently by another node", leaseName);
+            return false;
+        }
+    }
+
+    private void extend(String leaseName, AtomicBoolean held) {
+        if (!held.get()) {
+            return;
+        }
+        try {
+            var now = currentTime();
+            if (leaseRepository.extend(leaseName, nodeId, now.plus(schedulingProperties.getDuration()), now) == 0) {
+                held.set(false);
+                log.error("Node {} lost lease '{}' while the job was still running, stopping the job",
+                        nodeId, leaseName);
+            }
+        } catch (RuntimeException ex) {
+            log.error("Failed to extend lease '{}' on node {}: {}", leaseName, nodeId, ex.getMessage(), ex);
+        }
+    }
+
+    private LocalDateTime currentTime() {
+        return jdbcTemplate.queryForObject(CURRENT_TIME_QUERY, LocalDateTime.class);
+    }
+
+    private static String hostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException ex) {
+            return "node";
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package library.code.service;
 
+import library.code.component.LookupRegistry;
 import library.code.dto.userDTO.UserCreateDTO;
 import library.code.dto.userDTO.UserDTO;
 import library.code.dto.userDTO.UserUpdateDTO;
@@ -8,7 +9,6 @@ import library.code.exception.ResourceNotFoundException;
 import library.code.mapper.UserMapper;
 import library.code.models.RoleName;
 import library.code.models.User;
-import library.code.repositories.RoleRepository;
 import library.code.repositories.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -22,7 +22,7 @@ import org.springframework.stereotype.Service;
 @Slf4j
 public class UserService implements UserDetailsManager {
     private final UserRepository userRepository;
-    private final RoleRepository roleRepository;
+    private final LookupRegistry lookupRegistry;
     private final UserMapper userMapper;
 
     @Override
@@ -49,14 +49,10 @@ public class UserService implements UserDetailsManager {
         if (!userExists(userCreateDTO.getEmail())) {
             if (isAdmin(user)) {
                 log.info("Assigning 'ADMIN' role to user with email: {}", userCreateDTO.getEmail());
-                var roleAdmin = roleRepository.findByRoleName(RoleName.ADMIN)
-                        .orElseThrow(() -> new ResourceNotFoundException("Admin role not found"));
-                user.setRole(roleAdmin);
+                user.setRole(lookupRegistry.getRole(RoleName.ADMIN));
             } else {
                 log.info("Assigning 'READER' role to user with email: {}", userCreateDTO.getEmail());
-                var readerRole = roleRepository.findByRoleName(RoleName.READER)
-                        .orElseThrow(() -> new ResourceNotFoundException("Reader role not found"));
-                user.setRole(readerRole);
+                user.setRole(lookupRegistry.getRole(RoleName.READER));
             }
 
             log.info("Successfully created user with email: {}", userCreateDTO.getEmail());
@@ -1,12 +1,21 @@
 package library.code.specification;
 
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
 import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
 import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
 import jakarta.persistence.criteria.Subquery;
 import library.code.dto.specificationDTO.BookParamDTO;
+import library.code.dto.specificationDTO.GenreMatch;
+import library.code.models.Author;
 import library.code.models.Book;
 import library.code.models.Genre;
+import library.code.models.Publisher;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
@@ -25,7 +34,7 @@ public class BookSpecification {
                         .and(withContAuthorFirstName(params.getAuthorFirstNameCont()))
                         .and(withContAuthorLastName(params.getAuthorSurnameCont()))
                         .and(withPublisherTitleCont(params.getPublisherTitleCont()))
-                        .and(withContGenreTypes(params.getGenreTypes()))
+                        .and(withContGenreTypes(params.getGenreTypes(), params.getGenreMatch()))
                         .and(withDirectionOfLiterature(params.getDirectionOfLiterature())));
 
         if (sort != null && !sort.isEmpty()) {
@@ -44,6 +53,39 @@ public class BookSpecification {
         return specification;
     }
 
+    public Selection<?>[] listColumns(Root<Book> root) {
+        Join<Book, Author> author = root.join("author", JoinType.LEFT);
+        Join<Book, Publisher> publisher = root.join("publisher", JoinType.LEFT);
+        return new Selection<?>[] {root.get("id"), root.get("bookTitle"), author.get("firstName"),
+                author.get("lastName"), publisher.get("title"), root.get("publishedDate"), root.get("isbn"),
+                root.get("directionOfLiterature")};
+    }
+
+    public Specification<Book> withIdIn(Set<Long> ids) {
+        return ((root, query, criteriaBuilder) -> root.get("id").in(ids));
+    }
+
+    public Specification<Book> after(Sort.Order order, KeysetCursor cursor) {
+        return ((root, query, criteriaBuilder) -> {
+            Path<Long> idPath = root.get("id");
+            if (order.getProperty().equals("id")) {
+                return order.isAscending()
+                        ? criteriaBuilder.greaterThan(idPath, cursor.getId())
+                        : criteriaBuilder.lessThan(idPath, cursor.getId());
+            }
+
+            Path<String> sortPath = root.get(order.getProperty());
+            String sortValue = cursor.getSortValue();
+            return order.isAscending()
+                    ? criteriaBuilder.or(criteriaBuilder.greaterThan(sortPath, sortValue),
+                            criteriaBuilder.and(criteriaBuilder.equal(sortPath, sortValue),
+                                    criteriaBuilder.greaterThan(idPath, cursor.getId())))
+                    : criteriaBuilder.or(criteriaBuilder.lessThan(sortPath, sortValue),
+                            criteriaBuilder.and(criteriaBuilder.equal(sortPath, sortValue),
+                                    criteriaBuilder.lessThan(idPath, cursor.getId())));
+        });
+    }
+
     private Specification<Book> withBookTitleCont(String bookTitleCont) {
         return ((root, query, criteriaBuilder) -> {
             if (bookTitleCont == null || bookTitleCont.isEmpty()) {
@@ -85,25 +127,35 @@ public class BookSpecification {
         });
     }
 
-    private Specification<Book> withContGenreTypes(Set<String> genreTypes) {
+    private Specification<Book> withContGenreTypes(Set<String> genreTypes, GenreMatch genreMatch) {
         return ((root, query, criteriaBuilder) -> {
             if (genreTypes == null || genreTypes.isEmpty()) {
                 return criteriaBuilder.conjunction();
             }
             assert query != null;
-            Subquery<Long> subquery = query.subquery(Long.class);
-            Root<Book> bookRoot = subquery.from(Book.class);
-            Join<Book, Genre> bookGenreJoin = bookRoot.join("genres");
-
-            subquery.select(bookRoot.get("id"))
-                    .where(criteriaBuilder.and(
-                            criteriaBuilder.equal(bookRoot.get("id"), root.get("id")),
-                            bookGenreJoin.get("typeOfGenre").in(genreTypes)
-                    ));
-            return criteriaBuilder.exists(subquery);
+            if (genreMatch == GenreMatch.ALL) {
+                return criteriaBuilder.and(genreTypes.stream()
+                        .map(genreType -> withGenreExists(root, query, criteriaBuilder, Set.of(genreType)))
+                        .toArray(Predicate[]::new));
+            }
+            return withGenreExists(root, query, criteriaBuilder, genreTypes);
         });
     }
 
+    private Predicate withGenreExists(Root<Book> root, CriteriaQuery<?> query, CriteriaBuilder criteriaBuilder,
+                                      Set<String> genreTypes) {
+        Subquery<Long> subquery = query.subquery(Long.class);
+        Root<Book> bookRoot = subquery.from(Book.class);
+        Join<Book, Genre> bookGenreJoin = bookRoot.join("genres");
+
+        subquery.select(bookRoot.get("id"))
+                .where(criteriaBuilder.and(
+                        criteriaBuilder.equal(bookRoot.get("id"), root.get("id")),
+                        bookGenreJoin.get("typeOfGenre").in(genreTypes)
+                ));
+        return criteriaBuilder.exists(subquery);
+    }
+
     private Specification<Book> withDirectionOfLiterature(String directionOfLiterature) {
         return ((root, query, criteriaBuilder) -> {
             if (directionOfLiterature == null || directionOfLiterature.isEmpty()) {
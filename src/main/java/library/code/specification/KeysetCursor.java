@@ -0,0 +1,35 @@
+package library.code.specification;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+@Getter
+@RequiredArgsConstructor
+public class KeysetCursor {
+    private static final String SEPARATOR = "|";
+
+    private final String sortProperty;
+    private final Long id;
+    private final String sortValue;
+
+    public String encode() {
+        String raw = sortProperty + SEPARATOR + id + SEPARATOR + sortValue;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static KeysetCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + SEPARATOR, 3);
+            if (parts.length != 3) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            return new KeysetCursor(parts[0], Long.valueOf(parts[1]), parts[2]);
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException("Invalid cursor", ex);
+        }
+    }
+}
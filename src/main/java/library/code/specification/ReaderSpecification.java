@@ -1,8 +1,14 @@
 package library.code.specification;
 
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
 import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
 import library.code.dto.specificationDTO.ReaderParamDTO;
+import library.code.models.LibraryCard;
 import library.code.models.Reader;
+import library.code.models.User;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
@@ -36,6 +42,14 @@ public class ReaderSpecification {
         return specification;
     }
 
+    public Selection<?>[] listColumns(Root<Reader> root) {
+        Join<Reader, LibraryCard> libraryCard = root.join("libraryCard", JoinType.LEFT);
+        Join<Reader, User> user = root.join("user", JoinType.LEFT);
+        return new Selection<?>[] {root.get("id"), root.get("firstName"), root.get("lastName"),
+                root.get("passportDetails"), libraryCard.get("cardNumber"), user.get("email"), root.get("age"),
+                root.get("phone"), root.get("address"), root.get("createdAt"), root.get("updatedAt")};
+    }
+
     private Specification<Reader> withFirstNameCont(String firstNameCont) {
         return ((root, query, criteriaBuilder) -> {
             if (firstNameCont == null || firstNameCont.isEmpty()) {
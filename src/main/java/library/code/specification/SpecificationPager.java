@@ -0,0 +1,103 @@
+package library.code.specification;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.From;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import library.code.dto.specificationDTO.FacetValueDTO;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.function.Function;
+
+@Component
+public class SpecificationPager {
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public <T> List<Long> findIds(Class<T> domainClass, Specification<T> specification) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = criteriaBuilder.createQuery(Long.class);
+        Root<T> root = query.from(domainClass);
+        query.select(root.get("id"));
+
+        var predicate = specification.toPredicate(root, query, criteriaBuilder);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        return entityManager.createQuery(query).getResultList();
+    }
+
+    public <T> List<FacetValueDTO> countFacet(Class<T> domainClass, Specification<T> specification,
+                                              Function<Root<T>, From<?, ?>> source, String idAttribute,
+                                              String valueAttribute) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = criteriaBuilder.createTupleQuery();
+        Root<T> root = query.from(domainClass);
+        From<?, ?> from = source.apply(root);
+        Path<String> value = from.get(valueAttribute);
+        Path<Long> id = idAttribute != null ? from.get(idAttribute) : null;
+        Expression<Long> count = criteriaBuilder.countDistinct(root);
+
+        var predicate = specification.toPredicate(root, query, criteriaBuilder);
+        query.where(predicate != null
+                ? criteriaBuilder.and(predicate, criteriaBuilder.isNotNull(value))
+                : criteriaBuilder.isNotNull(value));
+        if (id != null) {
+            query.multiselect(id, value, count).groupBy(id, value);
+        } else {
+            query.multiselect(value, count).groupBy(value);
+        }
+        query.orderBy(criteriaBuilder.desc(count), criteriaBuilder.asc(value));
+
+        return entityManager.createQuery(query).getResultList().stream()
+                .map(tuple -> new FacetValueDTO(id != null ? tuple.get(id) : null, tuple.get(value),
+                        tuple.get(count)))
+                .toList();
+    }
+
+    public <T> List<T> findPage(Class<T> domainClass, Specification<T> specification, Pageable pageable) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<T> query = criteriaBuilder.createQuery(domainClass);
+        Root<T> root = query.from(domainClass);
+        query.select(root);
+
+        return createPageQuery(query, root, specification, pageable).getResultList();
+    }
+
+    public <T, R> List<R> findProjectedPage(Class<T> domainClass, Specification<T> specification, Pageable pageable,
+                                            Class<R> projection, Function<Root<T>, Selection<?>[]> columns) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<R> query = criteriaBuilder.createQuery(projection);
+        Root<T> root = query.from(domainClass);
+        query.select(criteriaBuilder.construct(projection, columns.apply(root)));
+
+        return createPageQuery(query, root, specification, pageable).getResultList();
+    }
+
+    private <T, R> TypedQuery<R> createPageQuery(CriteriaQuery<R> query, Root<T> root,
+                                                 Specification<T> specification, Pageable pageable) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        var predicate = specification.toPredicate(root, query, criteriaBuilder);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        if (pageable.getSort().isSorted()) {
+            query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, criteriaBuilder));
+        }
+
+        return entityManager.createQuery(query)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize());
+    }
+}
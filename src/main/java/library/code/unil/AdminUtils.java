@@ -26,20 +26,27 @@ public class AdminUtils {
         var email = authentication.getName();
         log.debug("Authenticated user email: {}", email);
 
+        var principal = JwtPrincipal.from(authentication);
+        if (principal != null && principal.getAdminId() != null) {
+            return logResult(email, id, id.equals(principal.getAdminId()));
+        }
+
+        log.debug("Token of user with email: {} has no matching id claim, loading admin with ID: {}", email, id);
         var admin = administratorRepository.findById(id)
                 .orElseThrow(() -> {
                     log.error("Admin with ID: {} not found", id);
                     return new ResourceNotFoundException("Admin with ID: " + id + " not found");
                 });
 
-        boolean isAdmin = admin.getUser().getEmail().equals(email);
+        return logResult(email, id, admin.getUser().getEmail().equals(email));
+    }
 
+    private boolean logResult(String email, Long id, boolean isAdmin) {
         if (isAdmin) {
             log.info("User with email: {} is a valid admin with ID: {}", email, id);
         } else {
             log.warn("User with email: {} does not match admin with ID: {}", email, id);
         }
-
         return isAdmin;
     }
 }
@@ -25,15 +25,21 @@ public class JWTUtils {
         log.info("Generating JWT token for user: {}", user.getEmail());
         log.debug("Current time: {}, Role: {}", now, role);
 
-        JwtClaimsSet claims = JwtClaimsSet.builder()
+        JwtClaimsSet.Builder claims = JwtClaimsSet.builder()
                 .issuer("self")
                 .issuedAt(now)
                 .expiresAt(now.plus(1, ChronoUnit.DAYS))
                 .subject(user.getEmail())
-                .claim("role", role)
-                .build();
-
-        String token = this.jwtEncoder.encode(JwtEncoderParameters.from(claims)).getTokenValue();
+                .claim(JwtPrincipal.ROLE_CLAIM, role)
+                .claim(JwtPrincipal.USER_ID_CLAIM, user.getId());
+        if (user.getReader() != null) {
+            claims.claim(JwtPrincipal.READER_ID_CLAIM, user.getReader().getId());
+        }
+        if (user.getAdmin() != null) {
+            claims.claim(JwtPrincipal.ADMIN_ID_CLAIM, user.getAdmin().getId());
+        }
+
+        String token = this.jwtEncoder.encode(JwtEncoderParameters.from(claims.build())).getTokenValue();
         log.info("Generated JWT token for user: {}", user.getEmail());
         return token;
     }
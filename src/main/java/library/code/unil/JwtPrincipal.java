@@ -0,0 +1,52 @@
+package library.code.unil;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+import org.springframework.security.core.AuthenticatedPrincipal;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.oauth2.jwt.Jwt;
+
+@Getter
+@ToString
+@RequiredArgsConstructor
+public class JwtPrincipal implements AuthenticatedPrincipal {
+    public static final String ROLE_CLAIM = "role";
+    public static final String USER_ID_CLAIM = "userId";
+    public static final String READER_ID_CLAIM = "readerId";
+    public static final String ADMIN_ID_CLAIM = "adminId";
+
+    private final Long id;
+    private final String email;
+    private final String role;
+    private final Long readerId;
+    private final Long adminId;
+
+    public static JwtPrincipal from(Jwt jwt) {
+        return new JwtPrincipal(longClaim(jwt, USER_ID_CLAIM), jwt.getSubject(), jwt.getClaimAsString(ROLE_CLAIM),
+                longClaim(jwt, READER_ID_CLAIM), longClaim(jwt, ADMIN_ID_CLAIM));
+    }
+
+    public static JwtPrincipal from(Authentication authentication) {
+        if (authentication.getPrincipal() instanceof JwtPrincipal principal) {
+            return principal;
+        }
+        if (authentication.getPrincipal() instanceof Jwt jwt) {
+            return from(jwt);
+        }
+        return null;
+    }
+
+    @Override
+    public String getName() {
+        return email;
+    }
+
+    private static Long longClaim(Jwt jwt, String name) {
+        Object value = jwt.getClaims().get(name);
+        if (value instanceof Number number) {
+            return number.longValue();
+        }
+        return value != null ? Long.valueOf(value.toString()) : null;
+    }
+}
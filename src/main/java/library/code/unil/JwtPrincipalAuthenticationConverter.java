@@ -0,0 +1,25 @@
+package library.code.unil;
+
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.oauth2.jwt.Jwt;
+
+import java.util.ArrayList;
+import java.util.Collection;
+
+public class JwtPrincipalAuthenticationConverter implements Converter<Jwt, JwtPrincipalAuthenticationToken> {
+
+    @Override
+    public JwtPrincipalAuthenticationToken convert(Jwt jwt) {
+        Collection<GrantedAuthority> authorities = new ArrayList<>();
+        String role = jwt.getClaimAsString(JwtPrincipal.ROLE_CLAIM);
+        if (role != null) {
+            if (!role.startsWith("ROLE_")) {
+                role = "ROLE_" + role;
+            }
+            authorities.add(new SimpleGrantedAuthority(role));
+        }
+        return new JwtPrincipalAuthenticationToken(jwt, authorities);
+    }
+}
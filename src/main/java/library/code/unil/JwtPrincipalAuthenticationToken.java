@@ -0,0 +1,21 @@
+package library.code.unil;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.AbstractOAuth2TokenAuthenticationToken;
+
+import java.util.Collection;
+import java.util.Map;
+
+public class JwtPrincipalAuthenticationToken extends AbstractOAuth2TokenAuthenticationToken<Jwt> {
+
+    public JwtPrincipalAuthenticationToken(Jwt jwt, Collection<? extends GrantedAuthority> authorities) {
+        super(jwt, JwtPrincipal.from(jwt), jwt, authorities);
+        setAuthenticated(true);
+    }
+
+    @Override
+    public Map<String, Object> getTokenAttributes() {
+        return getToken().getClaims();
+    }
+}
@@ -27,20 +27,27 @@ public class ReaderUtils {
         var email = authentication.getName();
         log.debug("Authenticated user email: {}", email);
 
+        var principal = JwtPrincipal.from(authentication);
+        if (principal != null && principal.getReaderId() != null) {
+            return logResult(email, id, id.equals(principal.getReaderId()));
+        }
+
+        log.debug("Token of user with email: {} has no matching id claim, loading reader with ID: {}", email, id);
         var currentReader = readerRepository.findById(id)
                 .orElseThrow(() -> {
                     log.error("Reader with ID: {} not found", id);
                     return new ResourceNotFoundException("Reader with id: " + id + " not found");
                 });
 
-        boolean isReader = currentReader.getUser().getEmail().equals(email);
+        return logResult(email, id, currentReader.getUser().getEmail().equals(email));
+    }
 
+    private boolean logResult(String email, Long id, boolean isReader) {
         if (isReader) {
             log.info("User with email: {} is a valid reader with ID: {}", email, id);
         } else {
             log.warn("User with email: {} does not match reader with ID: {}", email, id);
         }
-
         return isReader;
     }
 }
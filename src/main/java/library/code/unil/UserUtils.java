@@ -27,17 +27,24 @@ public class UserUtils {
         var email = authentication.getName();
         log.debug("Authenticated user email: {}", email);
 
+        var principal = JwtPrincipal.from(authentication);
+        if (principal != null && principal.getId() != null) {
+            return logResult(email, id, id.equals(principal.getId()));
+        }
+
+        log.debug("Token of user with email: {} has no matching id claim, loading user with ID: {}", email, id);
         var currentUser = userRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("User with id: " + id + " not found"));
 
-        boolean isUser = currentUser.getEmail().equals(email);
+        return logResult(email, id, currentUser.getEmail().equals(email));
+    }
 
+    private boolean logResult(String email, Long id, boolean isUser) {
         if (isUser) {
             log.info("Authenticated user with email: {} is the same as user with ID: {}", email, id);
         } else {
             log.warn("Authenticated user with email: {} does not match user with ID: {}", email, id);
         }
-
         return isUser;
     }
 }
@@ -1,6 +1,7 @@
 package library.code.controllers.api;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import library.code.component.LoginProperties;
 import library.code.dto.AuthRequest;
 import library.code.models.User;
 import library.code.unil.JWTUtils;
@@ -10,6 +11,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.BadCredentialsException;
@@ -21,6 +23,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 
 @SpringBootTest
 @AutoConfigureMockMvc
@@ -35,6 +38,8 @@ public class AuthenticationControllerTest {
     private JWTUtils jwtUtils;
     @MockBean
     private AuthenticationManager authenticationManager;
+    @Autowired
+    private LoginProperties loginProperties;
 
     @Test
     public void shouldReturnTokenWhenLoginIsSuccessful() throws Exception {
@@ -82,4 +87,27 @@ public class AuthenticationControllerTest {
                 .andExpect(status().isUnauthorized())
                 .andExpect(content().string("Invalid username or password"));
     }
+
+    @Test
+    public void shouldRejectLoginWithTooManyRequestsWhenAccountLimitIsExceeded() throws Exception {
+        AuthRequest userData = new AuthRequest();
+        userData.setEmail("throttled@reader.library");
+        userData.setPassword("wrong-password");
+
+        Mockito.when(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class)))
+                .thenThrow(new BadCredentialsException("Invalid username or password"));
+
+        for (int i = 0; i < loginProperties.getAccountLimit().getCapacity(); i++) {
+            mockMvc.perform(post("/api/login")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsBytes(userData)))
+                    .andExpect(status().isUnauthorized());
+        }
+
+        mockMvc.perform(post("/api/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsBytes(userData)))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().exists(HttpHeaders.RETRY_AFTER));
+    }
 }
@@ -18,6 +18,7 @@ import org.openapitools.jackson.nullable.JsonNullable;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers;
@@ -138,6 +139,27 @@ public class BookControllerTest {
         assertThat(savedBook.getIsbn()).isEqualTo(createDTO.getIsbn());
         assertThat(savedBook.getPublisher().getId()).isEqualTo(createDTO.getPublisherId());
         assertThat(savedBook.getAuthor().getId()).isEqualTo(createDTO.getAuthorId());
+        assertThat(savedBook.getGenres()).extracting(Genre::getTypeOfGenre)
+                .containsExactly(genre.getTypeOfGenre());
+    }
+
+    @Test
+    @WithMockUser(roles = {"ADMIN"})
+    public void testCreateBookWithUnknownGenre() throws Exception {
+        var createDTO = new BookCreateDTO();
+        createDTO.setBookTitle("Book");
+        createDTO.setAuthorId(author.getId());
+        createDTO.setPublisherId(publisher.getId());
+        createDTO.setGenreTypes(Set.of(genre.getTypeOfGenre(), "Unknown genre"));
+        createDTO.setIsbn("3333333333");
+
+        var result = post("/api/books")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(mapper.writeValueAsString(createDTO));
+
+        mockMvc.perform(result)
+                .andExpect(status().isNotFound());
+        assertThat(bookRepository.findByIsbn("3333333333")).isEmpty();
     }
 
     @Test
@@ -169,4 +191,104 @@ public class BookControllerTest {
                 .andExpect(status().isNoContent());
         assertThat(bookRepository.findById(book.getId())).isEmpty();
     }
+
+    @Test
+    @WithMockUser(roles = {"ADMIN"})
+    public void testExportBooksAsCsv() throws Exception {
+        bookRepository.flush();
+
+        var result = mockMvc.perform(get("/api/books/export").param("format", "csv"))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        var response = result.getResponse();
+        assertThat(response.getContentType()).startsWith("text/csv");
+        assertThat(response.getHeader(HttpHeaders.CONTENT_DISPOSITION)).contains("books.csv");
+        var lines = response.getContentAsString().split("\n");
+        assertThat(lines[0]).isEqualTo("id,book_title,author_id,publisher_id,published_date,ISBN,"
+                + "direction_of_literature,genre_types");
+        assertThat(lines).anyMatch(line -> line.startsWith(book.getId() + ",")
+                && line.contains("," + book.getIsbn() + ",")
+                && line.endsWith(genre.getTypeOfGenre()));
+    }
+
+    @Test
+    @WithMockUser(roles = {"READER"})
+    public void testExportBooksRequiresAdmin() throws Exception {
+        mockMvc.perform(get("/api/books/export"))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @WithMockUser(roles = {"ADMIN"})
+    public void testImportBooksFromCsv() throws Exception {
+        var csv = "book_title,author_id,publisher_id,published_date,genre_types,ISBN,direction_of_literature\n"
+                + "\"Dune, Part One\"," + author.getId() + "," + publisher.getId() + ",01-08-1965,,4444444444,"
+                + "Foreign literature\n"
+                + "Unknown publisher," + author.getId() + ",-1,,,5555555555,\n"
+                + "Bad isbn," + author.getId() + "," + publisher.getId() + ",,,12,\n";
+
+        var result = mockMvc.perform(post("/api/books/import")
+                        .contentType("text/csv")
+                        .content(csv))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        var body = result.getResponse().getContentAsString();
+        assertThatJson(body).node("imported_rows").isEqualTo(1);
+        assertThatJson(body).node("failed_rows").isEqualTo(2);
+        assertThatJson(body).node("next_offset").isEqualTo(3);
+        assertThatJson(body).node("errors[0].row").isEqualTo(2);
+        assertThatJson(body).node("errors[1].row").isEqualTo(3);
+
+        var importedBook = bookRepository.findByIsbn("4444444444").get();
+        assertThat(importedBook.getBookTitle()).isEqualTo("Dune, Part One");
+        assertThat(importedBook.getAuthor().getId()).isEqualTo(author.getId());
+    }
+
+    @Test
+    @WithMockUser(roles = {"ADMIN"})
+    public void testExportedCsvWithMultilineTitleCanBeImported() throws Exception {
+        book.setBookTitle("First line, \"quoted\"\nSecond line");
+        bookRepository.saveAndFlush(book);
+
+        var csv = mockMvc.perform(get("/api/books/export").param("format", "csv"))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        bookRepository.delete(book);
+        bookRepository.flush();
+
+        mockMvc.perform(post("/api/books/import")
+                        .contentType("text/csv")
+                        .content(csv))
+                .andExpect(status().isOk());
+
+        var importedBook = bookRepository.findByIsbn(book.getIsbn()).get();
+        assertThat(importedBook.getBookTitle()).isEqualTo("First line, \"quoted\"\nSecond line");
+    }
+
+    @Test
+    @WithMockUser(roles = {"ADMIN"})
+    public void testImportBooksFromNdjsonResumesFromOffset() throws Exception {
+        var ndjson = "{\"book_title\":\"First\",\"author_id\":" + author.getId() + ",\"publisher_id\":"
+                + publisher.getId() + ",\"ISBN\":\"6666666666\"}\n"
+                + "{\"book_title\":\"Second\",\"author_id\":" + author.getId() + ",\"publisher_id\":"
+                + publisher.getId() + ",\"ISBN\":\"7777777777\"}\n";
+
+        var result = mockMvc.perform(post("/api/books/import")
+                        .param("offset", "1")
+                        .contentType("application/x-ndjson")
+                        .content(ndjson))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        var body = result.getResponse().getContentAsString();
+        assertThatJson(body).node("processed_rows").isEqualTo(1);
+        assertThatJson(body).node("imported_rows").isEqualTo(1);
+        assertThatJson(body).node("completed").isEqualTo(true);
+        assertThat(bookRepository.findByIsbn("6666666666")).isEmpty();
+        assertThat(bookRepository.findByIsbn("7777777777")).isPresent();
+    }
 }
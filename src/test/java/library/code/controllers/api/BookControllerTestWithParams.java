@@ -1,5 +1,6 @@
 package library.code.controllers.api;
 
+import library.code.component.SuggestionIndex;
 import library.code.models.Author;
 import library.code.models.Book;
 import library.code.models.Genre;
@@ -13,6 +14,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers;
 import org.springframework.test.context.ActiveProfiles;
@@ -28,6 +30,7 @@ import java.util.Set;
 import static net.javacrumbs.jsonunit.assertj.JsonAssertions.assertThatJson;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @SpringBootTest
@@ -47,6 +50,8 @@ public class BookControllerTestWithParams {
     private GenreRepository genreRepository;
     @Autowired
     private PublisherRepository publisherRepository;
+    @Autowired
+    private SuggestionIndex suggestionIndex;
     @BeforeEach
     public void setUp() {
         mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext)
@@ -116,6 +121,7 @@ public class BookControllerTestWithParams {
         bookRepository.save(book);
         bookRepository.save(book2);
         bookRepository.save(book3);
+        bookRepository.flush();
     }
 
     @Test
@@ -221,4 +227,144 @@ public class BookControllerTestWithParams {
                         .and(n -> n.node("genre_types").isArray().contains("Novel"))
                         .and(n -> n.node("direction_of_literature").isEqualTo("Domestic literature")));
     }
+
+    @Test
+    @WithMockUser(roles = {"ADMIN", "READER"})
+    public void testGetListBooksWithCursor() throws Exception {
+        var firstPage = mockMvc.perform(get("/api/books")
+                        .param("size", "2")
+                        .param("sort", "bookTitle, asc"))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        assertThatJson(firstPage.getResponse().getContentAsString()).isArray().hasSize(2);
+        assertThat(firstPage.getResponse().getHeader("X-Total-Count")).isEqualTo("3");
+        var cursor = firstPage.getResponse().getHeader("X-Next-Cursor");
+        assertThat(cursor).isNotNull();
+
+        var secondPage = mockMvc.perform(get("/api/books")
+                        .param("size", "2")
+                        .param("after", cursor)
+                        .param("sort", "bookTitle, asc"))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        assertThatJson(secondPage.getResponse().getContentAsString()).isArray().hasSize(1)
+                .allSatisfy(element -> assertThatJson(element)
+                        .and(n -> n.node("book_title").isEqualTo("War and Peace")));
+        assertThat(secondPage.getResponse().getHeader("X-Next-Cursor")).isNull();
+    }
+
+    @Test
+    @WithMockUser(roles = {"ADMIN", "READER"})
+    public void testGetListBooksWithInvalidCursor() throws Exception {
+        mockMvc.perform(get("/api/books")
+                        .param("after", "not-a-cursor")
+                        .param("sort", "bookTitle, asc"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @WithMockUser(roles = {"ADMIN", "READER"})
+    public void testFuzzySearchRanksBooksWithTypos() throws Exception {
+        var result = mockMvc.perform(get("/api/books")
+                        .param("bookCont", "Hary Poter")
+                        .param("fuzzy", "true"))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        var body = result.getResponse().getContentAsString();
+        assertThatJson(body).isArray().hasSize(2);
+        assertThatJson(body).node("[0].book_title").isEqualTo("Harry Potter");
+        assertThatJson(body).node("[1].book_title").isEqualTo("Harry Potter2");
+    }
+
+    @Test
+    @WithMockUser(roles = {"ADMIN", "READER"})
+    public void testSuggestByPrefix() throws Exception {
+        suggestionIndex.rebuild();
+
+        var titles = mockMvc.perform(get("/api/books/suggest").param("q", "harr"))
+                .andExpect(status().isOk())
+                .andReturn();
+        assertThatJson(titles.getResponse().getContentAsString()).isArray().hasSize(2);
+        assertThatJson(titles.getResponse().getContentAsString()).node("[0].text").isEqualTo("Harry Potter");
+        assertThatJson(titles.getResponse().getContentAsString()).node("[0].type").isEqualTo("TITLE");
+
+        var authors = mockMvc.perform(get("/api/books/suggest").param("q", "Tols"))
+                .andExpect(status().isOk())
+                .andReturn();
+        assertThatJson(authors.getResponse().getContentAsString()).isArray().hasSize(1);
+        assertThatJson(authors.getResponse().getContentAsString()).node("[0].text").isEqualTo("Leo Tolstoy");
+        assertThatJson(authors.getResponse().getContentAsString()).node("[0].type").isEqualTo("AUTHOR");
+    }
+
+    @Test
+    @WithMockUser(roles = {"ADMIN", "READER"})
+    public void testSearchBooksWithFacets() throws Exception {
+        var result = mockMvc.perform(get("/api/books/search").param("publisherTitleCont", "Labyrinth"))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        var body = result.getResponse().getContentAsString();
+        assertThatJson(body).node("total_count").isEqualTo(2);
+        assertThatJson(body).node("items").isArray().hasSize(2);
+        assertThatJson(body).node("facets.genres").isArray().hasSize(2);
+        assertThatJson(body).node("facets.genres[0].count").isEqualTo(2);
+        assertThatJson(body).node("facets.genres[0].value").isEqualTo("Fantasy");
+        assertThatJson(body).node("facets.genres[1].value").isEqualTo("Horror");
+        assertThatJson(body).node("facets.publishers").isArray().hasSize(1);
+        assertThatJson(body).node("facets.publishers[0].value").isEqualTo("Labyrinth");
+        assertThatJson(body).node("facets.directions_of_literature[0].value").isEqualTo("Foreign literature");
+        assertThatJson(body).node("facets.directions_of_literature[0].count").isEqualTo(2);
+    }
+
+    @Test
+    @WithMockUser(roles = {"ADMIN", "READER"})
+    public void testFilterBooksMatchingAllGenres() throws Exception {
+        var allGenres = mockMvc.perform(get("/api/books")
+                        .param("genreTypes", "Fantasy", "Horror")
+                        .param("genreMatch", "ALL"))
+                .andExpect(status().isOk())
+                .andReturn();
+        assertThatJson(allGenres.getResponse().getContentAsString()).isArray().hasSize(2);
+
+        var noBooks = mockMvc.perform(get("/api/books")
+                        .param("genreTypes", "Fantasy", "Novel")
+                        .param("genreMatch", "ALL"))
+                .andExpect(status().isOk())
+                .andReturn();
+        assertThatJson(noBooks.getResponse().getContentAsString()).isArray().isEmpty();
+
+        var anyGenre = mockMvc.perform(get("/api/books")
+                        .param("genreTypes", "Fantasy", "Novel"))
+                .andExpect(status().isOk())
+                .andReturn();
+        assertThatJson(anyGenre.getResponse().getContentAsString()).isArray().hasSize(3);
+    }
+
+    @Test
+    @WithMockUser(roles = {"ADMIN", "READER"})
+    public void testFilterByGenreAfterChangingOnlyGenres() throws Exception {
+        var book = bookRepository.findAll().stream()
+                .filter(candidate -> candidate.getBookTitle().equals("Harry Potter"))
+                .findFirst()
+                .orElseThrow();
+
+        mockMvc.perform(put("/api/books/" + book.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"genre_types\": [\"Novel\"]}"))
+                .andExpect(status().isOk());
+
+        var novels = mockMvc.perform(get("/api/books").param("genreTypes", "Novel"))
+                .andExpect(status().isOk())
+                .andReturn();
+        assertThatJson(novels.getResponse().getContentAsString()).isArray().hasSize(2)
+                .anySatisfy(item -> assertThatJson(item).node("book_title").isEqualTo("Harry Potter"));
+
+        var horror = mockMvc.perform(get("/api/books").param("genreTypes", "Horror"))
+                .andExpect(status().isOk())
+                .andReturn();
+        assertThatJson(horror.getResponse().getContentAsString()).isArray().hasSize(1);
+    }
 }
@@ -27,6 +27,8 @@ import library.code.repositories.PublisherRepository;
 import library.code.repositories.ReaderRepository;
 import library.code.repositories.RoleRepository;
 import library.code.repositories.UserRepository;
+import library.code.unil.JwtPrincipalAuthenticationConverter;
+import library.code.unil.JwtPrincipalAuthenticationToken;
 import library.code.util.ModelGenerator;
 import org.instancio.Instancio;
 import org.junit.jupiter.api.BeforeEach;
@@ -36,6 +38,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
+import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors;
 import org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers;
@@ -53,6 +56,7 @@ import java.util.Set;
 
 import static net.javacrumbs.jsonunit.assertj.JsonAssertions.assertThatJson;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.authentication;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
@@ -172,6 +176,36 @@ public class LibraryCardBooksControllerTest {
         assertThatJson(body).isArray();
     }
 
+    @Test
+    public void testReaderOwnershipOfLoans() throws Exception {
+        var readerId = libraryCard.getReader().getId();
+        var owner = authentication(readerAuthentication(readerId));
+        var stranger = authentication(readerAuthentication(readerId + 1000));
+        var cardBooksUrl = "/api/" + libraryCard.getId() + "/libraryCardBooks";
+
+        mockMvc.perform(get(cardBooksUrl).with(owner))
+                .andExpect(status().isOk());
+        mockMvc.perform(get(cardBooksUrl + "/" + libraryCardBooks.getId()).with(owner))
+                .andExpect(status().isOk());
+        mockMvc.perform(get(cardBooksUrl).with(stranger))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get(cardBooksUrl + "/" + libraryCardBooks.getId()).with(stranger))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    public void testReaderOwnershipOfLoansWithoutReaderIdClaim() throws Exception {
+        user.setReader(libraryCard.getReader());
+        userRepository.save(user);
+        var owner = authentication(readerAuthentication(null));
+        var cardBooksUrl = "/api/" + libraryCard.getId() + "/libraryCardBooks";
+
+        mockMvc.perform(get(cardBooksUrl).with(owner))
+                .andExpect(status().isOk());
+        mockMvc.perform(get(cardBooksUrl + "/" + libraryCardBooks.getId()).with(owner))
+                .andExpect(status().isOk());
+    }
+
     @Test
     @WithMockUser(roles = {"ADMIN"})
     public void getLibraryBooks() throws Exception {
@@ -248,4 +282,19 @@ public class LibraryCardBooksControllerTest {
 
         assertThat(cardBooksRepository.findById(libraryCardBooks.getId())).isEmpty();
     }
+
+    private JwtPrincipalAuthenticationToken readerAuthentication(Long readerId) {
+        var jwt = Jwt.withTokenValue("token")
+                .header("alg", "none")
+                .subject(user.getEmail())
+                .claim("role", RoleName.READER.name())
+                .claim("userId", user.getId())
+                .claims(claims -> {
+                    if (readerId != null) {
+                        claims.put("readerId", readerId);
+                    }
+                })
+                .build();
+        return new JwtPrincipalAuthenticationConverter().convert(jwt);
+    }
 }
@@ -98,7 +98,10 @@ public class LibraryCardControllerTest {
         var body = result.getResponse().getContentAsString();
 
         assertThat(body).isNotNull();
-        assertThatJson(body).isArray();
+        assertThatJson(body).isArray()
+                .anySatisfy(element -> assertThatJson(element)
+                        .and(n -> n.node("library_card_number").isEqualTo(libraryCard.getCardNumber()),
+                                n -> n.node("borrowed_books").isArray().isEmpty()));
     }
 
     @Test
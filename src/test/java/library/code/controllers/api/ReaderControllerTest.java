@@ -19,6 +19,7 @@ import org.openapitools.jackson.nullable.JsonNullable;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors;
@@ -29,7 +30,9 @@ import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.context.WebApplicationContext;
 
+import java.io.ByteArrayInputStream;
 import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
 
 import static net.javacrumbs.jsonunit.assertj.JsonAssertions.assertThatJson;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -111,6 +114,25 @@ public class ReaderControllerTest {
         assertThatJson(body).isArray();
     }
 
+    @Test
+    @WithMockUser(roles = {"ADMIN"})
+    public void testExportReadersAsGzippedNdjson() throws Exception {
+        readerRepository.flush();
+
+        var result = mockMvc.perform(get("/api/readers/export").param("gzip", "true"))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        var response = result.getResponse();
+        assertThat(response.getContentType()).startsWith("application/x-ndjson");
+        assertThat(response.getHeader(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        try (var input = new GZIPInputStream(new ByteArrayInputStream(response.getContentAsByteArray()))) {
+            var lines = new String(input.readAllBytes(), StandardCharsets.UTF_8).split("\n");
+            assertThat(lines).anyMatch(line -> line.contains("\"passport_details\":\""
+                    + reader.getPassportDetails() + "\""));
+        }
+    }
+
     @Test
     public void testGetReader() throws Exception {
         var request = get("/api/readers/" + reader.getId())
@@ -126,6 +148,21 @@ public class ReaderControllerTest {
                 .and(n -> n.node("first_name").isEqualTo(reader.getFirstName()));
     }
 
+    @Test
+    public void testReaderOwnershipCheckedFromTokenClaims() throws Exception {
+        var claimsToken = jwt().jwt(builder -> builder
+                .subject(user.getEmail())
+                .claim("role", RoleName.READER.name())
+                .claim("userId", user.getId())
+                .claim("readerId", reader.getId())
+                .build());
+
+        mockMvc.perform(get("/api/readers/" + reader.getId()).with(claimsToken))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/readers/" + (reader.getId() + 1000)).with(claimsToken))
+                .andExpect(status().isForbidden());
+    }
+
     @Test
     public void testCompleteReaderProfile() throws Exception {
         var createDTO = new ReaderCreateDTO();
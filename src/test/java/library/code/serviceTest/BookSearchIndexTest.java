@@ -0,0 +1,108 @@
+package library.code.serviceTest;
+
+import library.code.component.BookSearchIndex;
+import library.code.dto.bookDTO.BookIndexDTO;
+import library.code.dto.specificationDTO.BookParamDTO;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+public class BookSearchIndexTest {
+    private static final Long BOOK_ID = 900_001L;
+    private static final Long GENRE_ID = 900_002L;
+    private static final Long LARGE_BOOK_ID = 5_000_000_001L;
+
+    @Autowired
+    private BookSearchIndex bookSearchIndex;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    public void tearDown() {
+        bookSearchIndex.remove(BOOK_ID);
+        bookSearchIndex.remove(LARGE_BOOK_ID);
+    }
+
+    @Test
+    public void testRenamedBookIsFoundOnlyByNewTitle() {
+        bookSearchIndex.add(new BookIndexDTO(BOOK_ID, "Zanzibar Chronicles", "Ada", "Quillfeather", null, null));
+        assertThat(candidates("zanzibar")).contains(BOOK_ID);
+        assertThat(fuzzy("Zanzibr")).contains(BOOK_ID);
+
+        bookSearchIndex.add(new BookIndexDTO(BOOK_ID, "Marmalade Voyage", "Ada", "Quillfeather", null, null));
+
+        assertThat(candidates("zanzibar")).doesNotContain(BOOK_ID);
+        assertThat(fuzzy("Zanzibr")).doesNotContain(BOOK_ID);
+        assertThat(candidates("marmalade")).contains(BOOK_ID);
+        assertThat(fuzzy("Marmalad")).contains(BOOK_ID);
+    }
+
+    @Test
+    public void testRemovedBookIsNoLongerFound() {
+        bookSearchIndex.add(new BookIndexDTO(BOOK_ID, "Zanzibar Chronicles", "Ada", "Quillfeather", null, null));
+        bookSearchIndex.assignGenres(BOOK_ID, Map.of(GENRE_ID, "Zanzibar Genre"));
+
+        bookSearchIndex.remove(BOOK_ID);
+
+        assertThat(candidates("zanzibar")).doesNotContain(BOOK_ID);
+        assertThat(fuzzy("Zanzibr")).doesNotContain(BOOK_ID);
+        var params = new BookParamDTO();
+        params.setGenreTypes(Set.of("Zanzibar Genre"));
+        assertThat(bookSearchIndex.findCandidates(params)).hasValueSatisfying(ids -> assertThat(ids).isEmpty());
+    }
+
+    @Test
+    public void testRolledBackChangesAreUndone() {
+        bookSearchIndex.add(new BookIndexDTO(BOOK_ID, "Zanzibar Chronicles", "Ada", "Quillfeather", null, null));
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            bookSearchIndex.add(new BookIndexDTO(BOOK_ID, "Marmalade Voyage", "Ada", "Quillfeather", null, null));
+            assertThat(candidates("marmalade")).contains(BOOK_ID);
+            status.setRollbackOnly();
+        });
+        assertThat(candidates("zanzibar")).contains(BOOK_ID);
+        assertThat(candidates("marmalade")).doesNotContain(BOOK_ID);
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            bookSearchIndex.remove(BOOK_ID);
+            status.setRollbackOnly();
+        });
+        assertThat(candidates("zanzibar")).contains(BOOK_ID);
+        assertThat(fuzzy("Zanzibr")).contains(BOOK_ID);
+    }
+
+    @Test
+    public void testGenreFilterSupportsIdsBeyondIntRange() {
+        bookSearchIndex.assignGenres(LARGE_BOOK_ID, Map.of(GENRE_ID, "Zanzibar Genre"));
+
+        var params = new BookParamDTO();
+        params.setGenreTypes(Set.of("Zanzibar Genre"));
+        assertThat(bookSearchIndex.findCandidates(params)).hasValueSatisfying(ids -> assertThat(ids)
+                .containsExactly(LARGE_BOOK_ID));
+    }
+
+    private Set<Long> candidates(String bookCont) {
+        var params = new BookParamDTO();
+        params.setBookCont(bookCont);
+        return bookSearchIndex.findCandidates(params).orElseThrow();
+    }
+
+    private List<Long> fuzzy(String bookCont) {
+        var params = new BookParamDTO();
+        params.setBookCont(bookCont);
+        return bookSearchIndex.findFuzzy(params, 100).orElseThrow();
+    }
+}
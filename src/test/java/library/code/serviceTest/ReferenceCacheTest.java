@@ -0,0 +1,69 @@
+package library.code.serviceTest;
+
+import library.code.component.ReferenceCache;
+import library.code.dto.authorDTO.AuthorReferenceDTO;
+import library.code.models.Author;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+public class ReferenceCacheTest {
+    private static final Long AUTHOR_ID = -1L;
+
+    @Autowired
+    private ReferenceCache referenceCache;
+
+    @Test
+    public void testCachesLoadedSnapshotsUntilEvicted() {
+        AtomicInteger loads = new AtomicInteger();
+        var snapshot = new AuthorReferenceDTO(AUTHOR_ID, "Ada", "Quillfeather");
+
+        var first = referenceCache.get(Author.class, AUTHOR_ID, () -> {
+            loads.incrementAndGet();
+            return Optional.of(snapshot);
+        });
+        var second = referenceCache.get(Author.class, AUTHOR_ID, () -> {
+            loads.incrementAndGet();
+            return Optional.of(snapshot);
+        });
+
+        assertThat(first).containsSame(snapshot);
+        assertThat(second).containsSame(snapshot);
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(referenceCache.getStats().get("Author").getHits()).isPositive();
+
+        referenceCache.evict(Author.class, AUTHOR_ID);
+        referenceCache.get(Author.class, AUTHOR_ID, () -> {
+            loads.incrementAndGet();
+            return Optional.of(snapshot);
+        });
+        assertThat(loads.get()).isEqualTo(2);
+        referenceCache.evict(Author.class, AUTHOR_ID);
+    }
+
+    @Test
+    public void testDoesNotCacheMissingValues() {
+        AtomicInteger loads = new AtomicInteger();
+
+        referenceCache.getAllByNaturalId(Author.class, "lastName", Set.of("missing"), missing -> {
+            loads.incrementAndGet();
+            return Map.of();
+        });
+        referenceCache.getAllByNaturalId(Author.class, "lastName", Set.of("missing"), missing -> {
+            loads.incrementAndGet();
+            return Map.of();
+        });
+
+        assertThat(loads.get()).isEqualTo(2);
+    }
+}
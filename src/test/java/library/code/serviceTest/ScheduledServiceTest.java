@@ -1,11 +1,13 @@
 package library.code.serviceTest;
 
+import library.code.component.NotificationProperties;
 import library.code.exception.ResourceNotFoundException;
 import library.code.models.Author;
 import library.code.models.Book;
 import library.code.models.Genre;
 import library.code.models.LibraryCard;
 import library.code.models.LibraryCardBooks;
+import library.code.models.NotificationOutboxStatus;
 import library.code.models.NotificationStatusName;
 import library.code.models.Publisher;
 import library.code.models.Reader;
@@ -17,6 +19,7 @@ import library.code.repositories.BookRepository;
 import library.code.repositories.GenreRepository;
 import library.code.repositories.LibraryCardBooksRepository;
 import library.code.repositories.LibraryCardRepository;
+import library.code.repositories.NotificationOutboxRepository;
 import library.code.repositories.NotificationStatusRepository;
 import library.code.repositories.PublisherRepository;
 import library.code.repositories.ReaderRepository;
@@ -32,19 +35,21 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.mail.MailSendException;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.HashSet;
-import java.util.List;
 import java.util.Set;
 
-import static org.mockito.ArgumentMatchers.contains;
-import static org.mockito.ArgumentMatchers.eq;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
-import static org.mockito.Mockito.when;
 
 @SpringBootTest
 @AutoConfigureMockMvc
@@ -53,11 +58,15 @@ import static org.mockito.Mockito.when;
 public class ScheduledServiceTest {
     @MockBean
     private EmailNotificationService emailNotificationService;
-    @MockBean
+    @Autowired
     private LibraryCardBooksRepository libraryCardBooksRepository;
     @Autowired
     private NotificationStatusRepository notificationStatusRepository;
     @Autowired
+    private NotificationOutboxRepository outboxRepository;
+    @Autowired
+    private NotificationProperties notificationProperties;
+    @Autowired
     private ScheduledService scheduledService;
     @Autowired
     private ModelGenerator modelGenerator;
@@ -102,6 +111,8 @@ public class ScheduledServiceTest {
         Reader reader = Instancio.of(modelGenerator.getReaderModel()).create();
         reader.setUser(user);
         readerRepository.save(reader);
+        user.setReader(reader);
+        userRepository.save(user);
 
         LibraryCard libraryCard = Instancio.of(modelGenerator.getLibraryCardModel()).create();
         libraryCard.setReader(reader);
@@ -133,19 +144,90 @@ public class ScheduledServiceTest {
     public void testSendNotificationsForThreeDays() {
         LocalDate expectedReturnDate = LocalDate.now().plusDays(3);
 
-        when(libraryCardBooksRepository.findByExpectedReturn(expectedReturnDate))
-                .thenReturn(List.of(libraryCardBooksFromThreeDays));
+        scheduledService.sendRemindersForDate(LocalDate.now());
+        scheduledService.dispatchDueNotifications();
 
-        scheduledService.sendNotificationsForThreeDays();
+        String expectedText = String.format("Уважаем %s, срок возврата книги %s истекает %s. "
+                        + "Пожалуйста, продлите аренду или верните книгу",
+                libraryCardBooksFromThreeDays.getLibraryCard().getReader().getFirstName(),
+                libraryCardBooksFromThreeDays.getBook().getBookTitle(),
+                expectedReturnDate);
 
         verify(emailNotificationService, times(1))
-                .sendEmail(eq("ivan@example.com"),
-                        eq("Напоминание о возврате книги"),
-                        contains(String.format("Уважаем %s, срок возврата книги %s истекает %s. "
-                                        + "Пожалуйста, продлите аренду или верните книгу",
-                                libraryCardBooksFromThreeDays.getLibraryCard().getReader().getFirstName(),
-                                libraryCardBooksFromThreeDays.getBook().getBookTitle(),
-                                expectedReturnDate)));
+                .sendBulk(argThat(messages -> messages.size() == 1
+                        && "ivan@example.com".equals(messages.get(0).getTo()[0])
+                        && "Напоминание о возврате книги".equals(messages.get(0).getSubject())
+                        && messages.get(0).getText().contains(expectedText)));
+
+        var updatedRecord = libraryCardBooksRepository.findById(libraryCardBooksFromThreeDays.getId()).get();
+        assertThat(updatedRecord.getNotificationStatus().getStatusName()).isEqualTo(NotificationStatusName.SUCCESS);
+    }
+
+    @Test
+    public void testSendNotificationsSchedulesRetryOnFailure() {
+        LocalDate expectedReturnDate = LocalDate.now().plusDays(3);
+
+        doThrow(new MailSendException("SMTP unavailable"))
+                .when(emailNotificationService).sendBulk(anyList());
+
+        scheduledService.sendRemindersForDate(LocalDate.now());
+        scheduledService.dispatchDueNotifications();
+
+        var entry = outboxRepository.findByLibraryCardBookId(libraryCardBooksFromThreeDays.getId()).get(0);
+        assertThat(entry.getStatus()).isEqualTo(NotificationOutboxStatus.PENDING);
+        assertThat(entry.getAttempts()).isEqualTo(1);
+        assertThat(entry.getNextAttemptAt()).isAfter(LocalDateTime.now());
+
+        var updatedRecord = libraryCardBooksRepository.findById(libraryCardBooksFromThreeDays.getId()).get();
+        assertThat(updatedRecord.getNotificationStatus().getStatusName()).isEqualTo(NotificationStatusName.QUEUED);
+    }
+
+    @Test
+    public void testSendNotificationsMovesExhaustedEntriesToDeadLetter() {
+        LocalDate expectedReturnDate = LocalDate.now().plusDays(3);
+
+        doThrow(new MailSendException("SMTP unavailable"))
+                .when(emailNotificationService).sendBulk(anyList());
+
+        scheduledService.sendRemindersForDate(LocalDate.now());
+        var entry = outboxRepository.findByLibraryCardBookId(libraryCardBooksFromThreeDays.getId()).get(0);
+        entry.setAttempts(notificationProperties.getOutbox().getMaxAttempts() - 1);
+        outboxRepository.save(entry);
+
+        scheduledService.dispatchDueNotifications();
+
+        var deadEntry = outboxRepository.findById(entry.getId()).get();
+        assertThat(deadEntry.getStatus()).isEqualTo(NotificationOutboxStatus.DEAD);
+
+        var updatedRecord = libraryCardBooksRepository.findById(libraryCardBooksFromThreeDays.getId()).get();
+        assertThat(updatedRecord.getNotificationStatus().getStatusName()).isEqualTo(NotificationStatusName.FAILED);
+    }
+
+    @Test
+    public void testSendRemindersDoesNotDuplicateWithinHorizon() {
+        scheduledService.sendRemindersForDate(LocalDate.now());
+        scheduledService.sendRemindersForDate(LocalDate.now().plusDays(1));
+
+        var entries = outboxRepository.findByLibraryCardBookId(libraryCardBooksFromThreeDays.getId());
+        assertThat(entries).hasSize(1);
+
+        var updatedRecord = libraryCardBooksRepository.findById(libraryCardBooksFromThreeDays.getId()).get();
+        assertThat(updatedRecord.getLastReminderOffset()).isEqualTo(-3);
+    }
+
+    @Test
+    public void testSendRemindersCatchesUpWithLatestHorizonOnly() {
+        LocalDate today = LocalDate.now().plusDays(5);
+
+        scheduledService.sendRemindersForDate(today);
+        scheduledService.sendRemindersForDate(today);
+
+        var entries = outboxRepository.findByLibraryCardBookId(libraryCardBooksFromThreeDays.getId());
+        assertThat(entries).hasSize(1);
+        assertThat(entries.get(0).getSubject()).isEqualTo("Просрочен возврат книги");
+        assertThat(entries.get(0).getBody()).contains("Просрочка составляет 2 дн.");
 
+        var updatedRecord = libraryCardBooksRepository.findById(libraryCardBooksFromThreeDays.getId()).get();
+        assertThat(updatedRecord.getLastReminderOffset()).isEqualTo(1);
     }
 }
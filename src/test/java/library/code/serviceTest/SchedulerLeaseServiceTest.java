@@ -0,0 +1,81 @@
+package library.code.serviceTest;
+
+import library.code.repositories.SchedulerLeaseRepository;
+import library.code.service.SchedulerLeaseService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "scheduling.lease.heartbeat-interval=100ms")
+@ActiveProfiles("test")
+public class SchedulerLeaseServiceTest {
+    private static final String LEASE_NAME = "test-lease";
+
+    @Autowired
+    private SchedulerLeaseService schedulerLeaseService;
+    @Autowired
+    private SchedulerLeaseRepository leaseRepository;
+
+    @AfterEach
+    public void tearDown() {
+        leaseRepository.deleteById(LEASE_NAME);
+    }
+
+    @Test
+    public void testRunExclusivelyAcquiresAndReleasesLease() {
+        AtomicInteger runs = new AtomicInteger();
+
+        assertThat(schedulerLeaseService.runExclusively(LEASE_NAME, runs::incrementAndGet)).isTrue();
+        assertThat(schedulerLeaseService.runExclusively(LEASE_NAME, runs::incrementAndGet)).isTrue();
+
+        assertThat(runs.get()).isEqualTo(2);
+        assertThat(leaseRepository.findById(LEASE_NAME).get().getLockedUntil())
+                .isBeforeOrEqualTo(LocalDateTime.now());
+    }
+
+    @Test
+    public void testRunExclusivelySkipsWhenLeaseHeldByAnotherNode() {
+        var now = LocalDateTime.now();
+        leaseRepository.create(LEASE_NAME, "other-node", now.plusMinutes(5), now);
+        AtomicInteger runs = new AtomicInteger();
+
+        assertThat(schedulerLeaseService.runExclusively(LEASE_NAME, runs::incrementAndGet)).isFalse();
+        assertThat(runs.get()).isZero();
+    }
+
+    @Test
+    public void testRunExclusivelyTakesOverExpiredLease() {
+        var now = LocalDateTime.now();
+        leaseRepository.create(LEASE_NAME, "other-node", now.minusMinutes(1), now.minusMinutes(6));
+        AtomicInteger runs = new AtomicInteger();
+
+        assertThat(schedulerLeaseService.runExclusively(LEASE_NAME, runs::incrementAndGet)).isTrue();
+        assertThat(runs.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void testRunExclusivelySignalsLostLeaseToTask() {
+        AtomicBoolean stopped = new AtomicBoolean();
+
+        assertThat(schedulerLeaseService.runExclusively(LEASE_NAME, leaseHeld -> {
+            var now = LocalDateTime.now();
+            leaseRepository.acquire(LEASE_NAME, "other-node", now.plusMinutes(5), now.plusMinutes(10));
+            long deadline = System.currentTimeMillis() + 5000;
+            while (leaseHeld.getAsBoolean() && System.currentTimeMillis() < deadline) {
+                Thread.onSpinWait();
+            }
+            stopped.set(!leaseHeld.getAsBoolean());
+        })).isTrue();
+
+        assertThat(stopped).isTrue();
+        assertThat(leaseRepository.findById(LEASE_NAME).get().getOwner()).isEqualTo("other-node");
+    }
+}
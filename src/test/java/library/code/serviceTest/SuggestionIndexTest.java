@@ -0,0 +1,53 @@
+package library.code.serviceTest;
+
+import library.code.component.SuggestionIndex;
+import library.code.dto.suggestionDTO.SuggestionDTO;
+import library.code.dto.suggestionDTO.SuggestionType;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+public class SuggestionIndexTest {
+    @Autowired
+    private SuggestionIndex suggestionIndex;
+
+    @Test
+    public void testRemovedTitleIsNoLongerSuggested() {
+        suggestionIndex.add(SuggestionType.TITLE, "Quokka Almanac", 3);
+        suggestionIndex.add(SuggestionType.TITLE, "Quokka Almanac", 0);
+        suggestionIndex.add(SuggestionType.TITLE, "Quokka Atlas", 1);
+
+        suggestionIndex.remove(SuggestionType.TITLE, "Quokka Almanac", 0);
+        assertThat(texts("quokka")).containsExactly("Quokka Almanac", "Quokka Atlas");
+
+        suggestionIndex.remove(SuggestionType.TITLE, "Quokka Almanac", 3);
+        assertThat(texts("quokka")).containsExactly("Quokka Atlas");
+        assertThat(texts("almanac")).isEmpty();
+
+        suggestionIndex.remove(SuggestionType.TITLE, "Quokka Atlas", 1);
+        assertThat(texts("quokka")).isEmpty();
+    }
+
+    @Test
+    public void testRenamedAuthorIsSuggestedOnlyByNewName() {
+        suggestionIndex.add(SuggestionType.AUTHOR, "Wombat Pemberton", 0);
+
+        suggestionIndex.remove(SuggestionType.AUTHOR, "Wombat Pemberton", 0);
+        suggestionIndex.add(SuggestionType.AUTHOR, "Wombat Fairweather", 0);
+
+        assertThat(texts("wombat")).containsExactly("Wombat Fairweather");
+        assertThat(texts("pemberton")).isEmpty();
+        suggestionIndex.remove(SuggestionType.AUTHOR, "Wombat Fairweather", 0);
+    }
+
+    private List<String> texts(String prefix) {
+        return suggestionIndex.suggest(prefix, 10).stream().map(SuggestionDTO::getText).toList();
+    }
+}
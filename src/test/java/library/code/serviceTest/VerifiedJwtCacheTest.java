@@ -0,0 +1,121 @@
+package library.code.serviceTest;
+
+import library.code.component.JwtCacheProperties;
+import library.code.component.VerifiedJwtCache;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+public class VerifiedJwtCacheTest {
+    @Autowired
+    private VerifiedJwtCache verifiedJwtCache;
+
+    @Test
+    public void testReusesVerifiedTokenUntilExpiry() {
+        var jwt = buildJwt("valid-token", Instant.now().plusSeconds(3600));
+        AtomicInteger decodes = new AtomicInteger();
+
+        var first = verifiedJwtCache.decode("valid-token", token -> {
+            decodes.incrementAndGet();
+            return jwt;
+        });
+        var second = verifiedJwtCache.decode("valid-token", token -> {
+            decodes.incrementAndGet();
+            return jwt;
+        });
+
+        assertThat(first).isSameAs(jwt);
+        assertThat(second).isSameAs(jwt);
+        assertThat(decodes.get()).isEqualTo(1);
+        assertThat(verifiedJwtCache.getStats().getHits()).isPositive();
+    }
+
+    @Test
+    public void testDoesNotCacheExpiredTokens() {
+        var jwt = buildJwt("expired-token", Instant.now().minusSeconds(1));
+        AtomicInteger decodes = new AtomicInteger();
+
+        verifiedJwtCache.decode("expired-token", token -> {
+            decodes.incrementAndGet();
+            return jwt;
+        });
+        verifiedJwtCache.decode("expired-token", token -> {
+            decodes.incrementAndGet();
+            return jwt;
+        });
+
+        assertThat(decodes.get()).isEqualTo(2);
+    }
+
+    @Test
+    public void testStopsServingCachedTokenAfterExpiry() throws InterruptedException {
+        var jwt = buildJwt("short-lived-token", Instant.now().plusMillis(300));
+        AtomicInteger decodes = new AtomicInteger();
+
+        verifiedJwtCache.decode("short-lived-token", token -> {
+            decodes.incrementAndGet();
+            return jwt;
+        });
+        verifiedJwtCache.decode("short-lived-token", token -> {
+            decodes.incrementAndGet();
+            return jwt;
+        });
+        assertThat(decodes.get()).isEqualTo(1);
+
+        Thread.sleep(400);
+        verifiedJwtCache.decode("short-lived-token", token -> {
+            decodes.incrementAndGet();
+            return jwt;
+        });
+
+        assertThat(decodes.get()).isEqualTo(2);
+    }
+
+    @Test
+    public void testEvictsLeastRecentlyUsedTokensOnOverflow() {
+        var properties = new JwtCacheProperties();
+        properties.setMaxEntries(10);
+        var cache = new VerifiedJwtCache(properties);
+        AtomicInteger decodes = new AtomicInteger();
+        Instant expiresAt = Instant.now().plusSeconds(3600);
+
+        for (int i = 0; i < 10; i++) {
+            cache.decode("token-" + i, token -> buildJwt(token, expiresAt));
+        }
+        cache.decode("token-0", token -> {
+            decodes.incrementAndGet();
+            return buildJwt(token, expiresAt);
+        });
+        cache.decode("token-10", token -> buildJwt(token, expiresAt));
+
+        cache.decode("token-0", token -> {
+            decodes.incrementAndGet();
+            return buildJwt(token, expiresAt);
+        });
+        assertThat(decodes.get()).isZero();
+        cache.decode("token-1", token -> {
+            decodes.incrementAndGet();
+            return buildJwt(token, expiresAt);
+        });
+        assertThat(decodes.get()).isEqualTo(1);
+        assertThat(cache.getStats().getEvictions()).isEqualTo(2);
+    }
+
+    private Jwt buildJwt(String token, Instant expiresAt) {
+        return Jwt.withTokenValue(token)
+                .header("alg", "RS256")
+                .subject("reader@example.com")
+                .issuedAt(expiresAt.minusSeconds(7200))
+                .expiresAt(expiresAt)
+                .build();
+    }
+}
@@ -106,6 +106,7 @@ public class ModelGenerator {
                 .supply(Select.field(LibraryCardBooks::getExpectedReturn),
                         () -> LocalDate.now().plusWeeks(3))
                 .supply(Select.field(LibraryCardBooks::getActualDate), () -> null)
+                .ignore(Select.field(LibraryCardBooks::getLastReminderOffset))
                 .toModel();
     }
 }